@@ -0,0 +1,41 @@
+package com.bank.dto.request;
+
+import com.bank.exception.ErrorMessages;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A single (account, user) pair of a bulk authorized-user request.
+ */
+public class AccountUserLinkRequest {
+
+    @NotNull(message = ErrorMessages.ACCOUNT_ID_REQUIRED)
+    private Long accountId;
+
+    @NotNull(message = ErrorMessages.USER_ID_REQUIRED)
+    private Long userId;
+
+    public AccountUserLinkRequest() {
+    }
+
+    public AccountUserLinkRequest(Long accountId, Long userId) {
+        this.accountId = accountId;
+        this.userId = userId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+}
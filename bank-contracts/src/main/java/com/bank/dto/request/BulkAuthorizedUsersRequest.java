@@ -0,0 +1,36 @@
+package com.bank.dto.request;
+
+import com.bank.exception.ErrorMessages;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request body for the bulk authorized-user association endpoints.
+ */
+public class BulkAuthorizedUsersRequest {
+
+    public static final int MAX_ITEMS = 10000;
+
+    @NotEmpty(message = ErrorMessages.BULK_ITEMS_REQUIRED)
+    @Size(max = MAX_ITEMS, message = ErrorMessages.BULK_TOO_MANY_ITEMS)
+    private List<@NotNull(message = ErrorMessages.BULK_ITEM_REQUIRED) @Valid AccountUserLinkRequest> links;
+
+    public BulkAuthorizedUsersRequest() {
+    }
+
+    public BulkAuthorizedUsersRequest(List<AccountUserLinkRequest> links) {
+        this.links = links;
+    }
+
+    public List<AccountUserLinkRequest> getLinks() {
+        return links;
+    }
+
+    public void setLinks(List<AccountUserLinkRequest> links) {
+        this.links = links;
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.dto.request;
+
+import com.bank.exception.ErrorMessages;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request body for POST /users/bulk.
+ * Items are validated one by one in the service so that a single invalid
+ * entry is reported in the response instead of rejecting the whole batch.
+ */
+public class BulkCreateUsersRequest {
+
+    public static final int MAX_ITEMS = 1000;
+
+    @NotEmpty(message = ErrorMessages.BULK_ITEMS_REQUIRED)
+    @Size(max = MAX_ITEMS, message = ErrorMessages.BULK_TOO_MANY_ITEMS)
+    private List<CreateUserRequest> users;
+
+    public BulkCreateUsersRequest() {
+    }
+
+    public BulkCreateUsersRequest(List<CreateUserRequest> users) {
+        this.users = users;
+    }
+
+    public List<CreateUserRequest> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<CreateUserRequest> users) {
+        this.users = users;
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.dto.request;
+
+import com.bank.exception.ErrorMessages;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request body for POST /users/bulk-delete and POST /accounts/bulk-delete.
+ * Each id gets its own result in the response.
+ */
+public class BulkDeleteRequest {
+
+    public static final int MAX_ITEMS = 10000;
+
+    @NotEmpty(message = ErrorMessages.BULK_ITEMS_REQUIRED)
+    @Size(max = MAX_ITEMS, message = ErrorMessages.BULK_TOO_MANY_ITEMS)
+    private List<@NotNull(message = ErrorMessages.BULK_ITEM_REQUIRED) Long> ids;
+
+    public BulkDeleteRequest() {
+    }
+
+    public BulkDeleteRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,124 @@
+package com.bank.dto.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for the GET /internal/allocations endpoint.
+ * Returns the distribution of bytes allocated per request by every endpoint
+ * that has been called since startup.
+ */
+public class AllocationResponse {
+
+    private boolean supported;
+    private List<EndpointAllocations> endpoints;
+
+    public AllocationResponse() {
+    }
+
+    public AllocationResponse(boolean supported, List<EndpointAllocations> endpoints) {
+        this.supported = supported;
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Whether the JVM reports per-thread allocations; when false nothing is recorded.
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    public void setSupported(boolean supported) {
+        this.supported = supported;
+    }
+
+    public List<EndpointAllocations> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<EndpointAllocations> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Allocations of a single endpoint, in bytes per request.
+     */
+    public static class EndpointAllocations {
+        private String endpoint;
+        private long requests;
+        private long meanBytes;
+        private long p50Bytes;
+        private long p90Bytes;
+        private long p99Bytes;
+        private long maxBytes;
+
+        public EndpointAllocations() {
+        }
+
+        public EndpointAllocations(String endpoint, long requests, long meanBytes, long p50Bytes, long p90Bytes,
+                long p99Bytes, long maxBytes) {
+            this.endpoint = endpoint;
+            this.requests = requests;
+            this.meanBytes = meanBytes;
+            this.p50Bytes = p50Bytes;
+            this.p90Bytes = p90Bytes;
+            this.p99Bytes = p99Bytes;
+            this.maxBytes = maxBytes;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public void setEndpoint(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public void setRequests(long requests) {
+            this.requests = requests;
+        }
+
+        public long getMeanBytes() {
+            return meanBytes;
+        }
+
+        public void setMeanBytes(long meanBytes) {
+            this.meanBytes = meanBytes;
+        }
+
+        public long getP50Bytes() {
+            return p50Bytes;
+        }
+
+        public void setP50Bytes(long p50Bytes) {
+            this.p50Bytes = p50Bytes;
+        }
+
+        public long getP90Bytes() {
+            return p90Bytes;
+        }
+
+        public void setP90Bytes(long p90Bytes) {
+            this.p90Bytes = p90Bytes;
+        }
+
+        public long getP99Bytes() {
+            return p99Bytes;
+        }
+
+        public void setP99Bytes(long p99Bytes) {
+            this.p99Bytes = p99Bytes;
+        }
+
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+    }
+}
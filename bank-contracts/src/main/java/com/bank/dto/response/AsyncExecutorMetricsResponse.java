@@ -0,0 +1,179 @@
+package com.bank.dto.response;
+
+/**
+ * Response DTO for the GET /metrics/async-executor endpoint.
+ * Returns the state of the executor behind the asynchronous read endpoints
+ * and counters of the work it has done since startup.
+ */
+public class AsyncExecutorMetricsResponse {
+
+    private int corePoolSize;
+    private int maxPoolSize;
+    private int queueCapacity;
+    private int poolSize;
+    private int activeCount;
+    private int queueSize;
+    private long submitted;
+    private long completed;
+    private long failed;
+    private long rejected;
+    private long timedOut;
+    private long skipped;
+    private double averageQueueWaitMs;
+    private double maxQueueWaitMs;
+    private double averageRunMs;
+    private double maxRunMs;
+
+    public AsyncExecutorMetricsResponse() {
+    }
+
+    public AsyncExecutorMetricsResponse(int corePoolSize, int maxPoolSize, int queueCapacity, int poolSize,
+            int activeCount, int queueSize, long submitted, long completed, long failed, long rejected,
+            long timedOut, long skipped, double averageQueueWaitMs, double maxQueueWaitMs,
+            double averageRunMs, double maxRunMs) {
+        this.corePoolSize = corePoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.queueCapacity = queueCapacity;
+        this.poolSize = poolSize;
+        this.activeCount = activeCount;
+        this.queueSize = queueSize;
+        this.submitted = submitted;
+        this.completed = completed;
+        this.failed = failed;
+        this.rejected = rejected;
+        this.timedOut = timedOut;
+        this.skipped = skipped;
+        this.averageQueueWaitMs = averageQueueWaitMs;
+        this.maxQueueWaitMs = maxQueueWaitMs;
+        this.averageRunMs = averageRunMs;
+        this.maxRunMs = maxRunMs;
+    }
+
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    public void setCorePoolSize(int corePoolSize) {
+        this.corePoolSize = corePoolSize;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public void setActiveCount(int activeCount) {
+        this.activeCount = activeCount;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(long submitted) {
+        this.submitted = submitted;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public long getTimedOut() {
+        return timedOut;
+    }
+
+    public void setTimedOut(long timedOut) {
+        this.timedOut = timedOut;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(long skipped) {
+        this.skipped = skipped;
+    }
+
+    public double getAverageQueueWaitMs() {
+        return averageQueueWaitMs;
+    }
+
+    public void setAverageQueueWaitMs(double averageQueueWaitMs) {
+        this.averageQueueWaitMs = averageQueueWaitMs;
+    }
+
+    public double getMaxQueueWaitMs() {
+        return maxQueueWaitMs;
+    }
+
+    public void setMaxQueueWaitMs(double maxQueueWaitMs) {
+        this.maxQueueWaitMs = maxQueueWaitMs;
+    }
+
+    public double getAverageRunMs() {
+        return averageRunMs;
+    }
+
+    public void setAverageRunMs(double averageRunMs) {
+        this.averageRunMs = averageRunMs;
+    }
+
+    public double getMaxRunMs() {
+        return maxRunMs;
+    }
+
+    public void setMaxRunMs(double maxRunMs) {
+        this.maxRunMs = maxRunMs;
+    }
+}
@@ -0,0 +1,46 @@
+package com.bank.dto.response;
+
+/**
+ * Response DTO for the bulk authorized-user association endpoints.
+ * Pairs that were already in the requested state, or whose account or user
+ * does not exist, are counted as skipped.
+ */
+public class BulkAuthorizedUsersResponse {
+
+    private int requested;
+    private int applied;
+    private int skipped;
+
+    public BulkAuthorizedUsersResponse() {
+    }
+
+    public BulkAuthorizedUsersResponse(int requested, int applied) {
+        this.requested = requested;
+        this.applied = applied;
+        this.skipped = requested - applied;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public void setApplied(int applied) {
+        this.applied = applied;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(int skipped) {
+        this.skipped = skipped;
+    }
+}
@@ -0,0 +1,118 @@
+package com.bank.dto.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for bulk endpoints.
+ * Reports aggregated counts plus one result per submitted item, in request
+ * order.
+ */
+public class BulkOperationResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results;
+
+    public BulkOperationResponse() {
+    }
+
+    public BulkOperationResponse(List<ItemResult> results) {
+        this.results = results;
+        this.total = results.size();
+        this.succeeded = (int) results.stream().filter(ItemResult::isSuccess).count();
+        this.failed = total - succeeded;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<ItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ItemResult> results) {
+        this.results = results;
+    }
+
+    /**
+     * Outcome of a single item of the bulk request.
+     */
+    public static class ItemResult {
+        private int index;
+        private Long id;
+        private boolean success;
+        private String message;
+
+        public ItemResult() {
+        }
+
+        public ItemResult(int index, Long id, boolean success, String message) {
+            this.index = index;
+            this.id = id;
+            this.success = success;
+            this.message = message;
+        }
+
+        public static ItemResult succeeded(int index, Long id) {
+            return new ItemResult(index, id, true, null);
+        }
+
+        public static ItemResult failed(int index, Long id, String message) {
+            return new ItemResult(index, id, false, message);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public void setSuccess(boolean success) {
+            this.success = success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
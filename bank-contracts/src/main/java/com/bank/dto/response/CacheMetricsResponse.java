@@ -0,0 +1,130 @@
+package com.bank.dto.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for the GET /metrics/cache endpoint.
+ * Returns second-level cache hit/miss statistics, overall and per region.
+ */
+public class CacheMetricsResponse {
+
+    private boolean statisticsEnabled;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private List<RegionMetrics> regions;
+
+    public CacheMetricsResponse() {
+    }
+
+    public CacheMetricsResponse(boolean statisticsEnabled, long hitCount, long missCount, long putCount,
+            List<RegionMetrics> regions) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.regions = regions;
+    }
+
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public void setMissCount(long missCount) {
+        this.missCount = missCount;
+    }
+
+    public long getPutCount() {
+        return putCount;
+    }
+
+    public void setPutCount(long putCount) {
+        this.putCount = putCount;
+    }
+
+    public List<RegionMetrics> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(List<RegionMetrics> regions) {
+        this.regions = regions;
+    }
+
+    /**
+     * Statistics of a single cache region.
+     */
+    public static class RegionMetrics {
+        private String region;
+        private long hitCount;
+        private long missCount;
+        private long putCount;
+        private long elementCount;
+
+        public RegionMetrics() {
+        }
+
+        public RegionMetrics(String region, long hitCount, long missCount, long putCount, long elementCount) {
+            this.region = region;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.putCount = putCount;
+            this.elementCount = elementCount;
+        }
+
+        public String getRegion() {
+            return region;
+        }
+
+        public void setRegion(String region) {
+            this.region = region;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public void setHitCount(long hitCount) {
+            this.hitCount = hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public void setMissCount(long missCount) {
+            this.missCount = missCount;
+        }
+
+        public long getPutCount() {
+            return putCount;
+        }
+
+        public void setPutCount(long putCount) {
+            this.putCount = putCount;
+        }
+
+        public long getElementCount() {
+            return elementCount;
+        }
+
+        public void setElementCount(long elementCount) {
+            this.elementCount = elementCount;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.bank.dto.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for the GET /metrics/concurrency-limits endpoint.
+ * Returns the current adaptive limit of every endpoint that has been called
+ * and how many of its requests were admitted or rejected since startup.
+ */
+public class ConcurrencyLimitMetricsResponse {
+
+    private List<EndpointMetrics> endpoints;
+
+    public ConcurrencyLimitMetricsResponse() {
+    }
+
+    public ConcurrencyLimitMetricsResponse(List<EndpointMetrics> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public List<EndpointMetrics> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<EndpointMetrics> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Limit state of a single endpoint.
+     */
+    public static class EndpointMetrics {
+        private String endpoint;
+        private String tier;
+        private int limit;
+        private int inFlight;
+        private long accepted;
+        private long rejected;
+
+        public EndpointMetrics() {
+        }
+
+        public EndpointMetrics(String endpoint, String tier, int limit, int inFlight, long accepted,
+                long rejected) {
+            this.endpoint = endpoint;
+            this.tier = tier;
+            this.limit = limit;
+            this.inFlight = inFlight;
+            this.accepted = accepted;
+            this.rejected = rejected;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public void setEndpoint(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public String getTier() {
+            return tier;
+        }
+
+        public void setTier(String tier) {
+            this.tier = tier;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public void setLimit(int limit) {
+            this.limit = limit;
+        }
+
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        public void setInFlight(int inFlight) {
+            this.inFlight = inFlight;
+        }
+
+        public long getAccepted() {
+            return accepted;
+        }
+
+        public void setAccepted(long accepted) {
+            this.accepted = accepted;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public void setRejected(long rejected) {
+            this.rejected = rejected;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.bank.dto.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for the GET /metrics/connection-pool endpoint.
+ * Returns the state of every connection pool, how long requests waited for a
+ * connection and held it, and the same timings attributed to each
+ * AccountService / UserService method.
+ */
+public class ConnectionPoolMetricsResponse {
+
+    private List<PoolMetrics> pools;
+    private List<MethodMetrics> methods;
+
+    public ConnectionPoolMetricsResponse() {
+    }
+
+    public ConnectionPoolMetricsResponse(List<PoolMetrics> pools, List<MethodMetrics> methods) {
+        this.pools = pools;
+        this.methods = methods;
+    }
+
+    public List<PoolMetrics> getPools() {
+        return pools;
+    }
+
+    public void setPools(List<PoolMetrics> pools) {
+        this.pools = pools;
+    }
+
+    public List<MethodMetrics> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(List<MethodMetrics> methods) {
+        this.methods = methods;
+    }
+
+    /**
+     * State and timings of one connection pool.
+     */
+    public static class PoolMetrics {
+        private String pool;
+        private int active;
+        private int idle;
+        private int pending;
+        private int total;
+        private int maximumPoolSize;
+        private long connectionsCreated;
+        private long timeouts;
+        private long resizes;
+        private String lastResize;
+        private Timing acquire;
+        private Timing usage;
+
+        public PoolMetrics() {
+        }
+
+        public PoolMetrics(String pool, int active, int idle, int pending, int total, int maximumPoolSize,
+                long connectionsCreated, long timeouts, long resizes, String lastResize, Timing acquire,
+                Timing usage) {
+            this.pool = pool;
+            this.active = active;
+            this.idle = idle;
+            this.pending = pending;
+            this.total = total;
+            this.maximumPoolSize = maximumPoolSize;
+            this.connectionsCreated = connectionsCreated;
+            this.timeouts = timeouts;
+            this.resizes = resizes;
+            this.lastResize = lastResize;
+            this.acquire = acquire;
+            this.usage = usage;
+        }
+
+        public String getPool() {
+            return pool;
+        }
+
+        public void setPool(String pool) {
+            this.pool = pool;
+        }
+
+        public int getActive() {
+            return active;
+        }
+
+        public void setActive(int active) {
+            this.active = active;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public void setIdle(int idle) {
+            this.idle = idle;
+        }
+
+        public int getPending() {
+            return pending;
+        }
+
+        public void setPending(int pending) {
+            this.pending = pending;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public void setTotal(int total) {
+            this.total = total;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        public long getConnectionsCreated() {
+            return connectionsCreated;
+        }
+
+        public void setConnectionsCreated(long connectionsCreated) {
+            this.connectionsCreated = connectionsCreated;
+        }
+
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        public void setTimeouts(long timeouts) {
+            this.timeouts = timeouts;
+        }
+
+        public long getResizes() {
+            return resizes;
+        }
+
+        public void setResizes(long resizes) {
+            this.resizes = resizes;
+        }
+
+        public String getLastResize() {
+            return lastResize;
+        }
+
+        public void setLastResize(String lastResize) {
+            this.lastResize = lastResize;
+        }
+
+        public Timing getAcquire() {
+            return acquire;
+        }
+
+        public void setAcquire(Timing acquire) {
+            this.acquire = acquire;
+        }
+
+        public Timing getUsage() {
+            return usage;
+        }
+
+        public void setUsage(Timing usage) {
+            this.usage = usage;
+        }
+    }
+
+    /**
+     * Connection timings of the calls to one service method.
+     */
+    public static class MethodMetrics {
+        private String method;
+        private long calls;
+        private long connections;
+        private Timing acquire;
+        private Timing usage;
+
+        public MethodMetrics() {
+        }
+
+        public MethodMetrics(String method, long calls, long connections, Timing acquire, Timing usage) {
+            this.method = method;
+            this.calls = calls;
+            this.connections = connections;
+            this.acquire = acquire;
+            this.usage = usage;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public void setCalls(long calls) {
+            this.calls = calls;
+        }
+
+        public long getConnections() {
+            return connections;
+        }
+
+        public void setConnections(long connections) {
+            this.connections = connections;
+        }
+
+        public Timing getAcquire() {
+            return acquire;
+        }
+
+        public void setAcquire(Timing acquire) {
+            this.acquire = acquire;
+        }
+
+        public Timing getUsage() {
+            return usage;
+        }
+
+        public void setUsage(Timing usage) {
+            this.usage = usage;
+        }
+    }
+
+    /**
+     * Distribution of a duration, in milliseconds.
+     */
+    public static class Timing {
+        private long count;
+        private double meanMs;
+        private double p50Ms;
+        private double p95Ms;
+        private double p99Ms;
+        private double maxMs;
+
+        public Timing() {
+        }
+
+        public Timing(long count, double meanMs, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+            this.count = count;
+            this.meanMs = meanMs;
+            this.p50Ms = p50Ms;
+            this.p95Ms = p95Ms;
+            this.p99Ms = p99Ms;
+            this.maxMs = maxMs;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public double getMeanMs() {
+            return meanMs;
+        }
+
+        public void setMeanMs(double meanMs) {
+            this.meanMs = meanMs;
+        }
+
+        public double getP50Ms() {
+            return p50Ms;
+        }
+
+        public void setP50Ms(double p50Ms) {
+            this.p50Ms = p50Ms;
+        }
+
+        public double getP95Ms() {
+            return p95Ms;
+        }
+
+        public void setP95Ms(double p95Ms) {
+            this.p95Ms = p95Ms;
+        }
+
+        public double getP99Ms() {
+            return p99Ms;
+        }
+
+        public void setP99Ms(double p99Ms) {
+            this.p99Ms = p99Ms;
+        }
+
+        public double getMaxMs() {
+            return maxMs;
+        }
+
+        public void setMaxMs(double maxMs) {
+            this.maxMs = maxMs;
+        }
+    }
+}
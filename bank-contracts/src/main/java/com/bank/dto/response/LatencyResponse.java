@@ -0,0 +1,163 @@
+package com.bank.dto.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for the GET /internal/latency endpoint.
+ * Returns the latency distribution of every controller mapping and service
+ * method, over the last completed interval and since startup, in milliseconds.
+ */
+public class LatencyResponse {
+
+    private List<OperationLatency> operations;
+
+    public LatencyResponse() {
+    }
+
+    public LatencyResponse(List<OperationLatency> operations) {
+        this.operations = operations;
+    }
+
+    public List<OperationLatency> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<OperationLatency> operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Distributions of a single operation.
+     */
+    public static class OperationLatency {
+        private String operation;
+        private Distribution interval;
+        private Distribution total;
+
+        public OperationLatency() {
+        }
+
+        public OperationLatency(String operation, Distribution interval, Distribution total) {
+            this.operation = operation;
+            this.interval = interval;
+            this.total = total;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public void setOperation(String operation) {
+            this.operation = operation;
+        }
+
+        public Distribution getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Distribution interval) {
+            this.interval = interval;
+        }
+
+        public Distribution getTotal() {
+            return total;
+        }
+
+        public void setTotal(Distribution total) {
+            this.total = total;
+        }
+    }
+
+    /**
+     * Count, mean and percentiles of one histogram, in milliseconds.
+     */
+    public static class Distribution {
+        private long count;
+        private double meanMs;
+        private double p50Ms;
+        private double p90Ms;
+        private double p99Ms;
+        private double p999Ms;
+        private double p9999Ms;
+        private double maxMs;
+
+        public Distribution() {
+        }
+
+        public Distribution(long count, double meanMs, double p50Ms, double p90Ms, double p99Ms, double p999Ms,
+                double p9999Ms, double maxMs) {
+            this.count = count;
+            this.meanMs = meanMs;
+            this.p50Ms = p50Ms;
+            this.p90Ms = p90Ms;
+            this.p99Ms = p99Ms;
+            this.p999Ms = p999Ms;
+            this.p9999Ms = p9999Ms;
+            this.maxMs = maxMs;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public double getMeanMs() {
+            return meanMs;
+        }
+
+        public void setMeanMs(double meanMs) {
+            this.meanMs = meanMs;
+        }
+
+        public double getP50Ms() {
+            return p50Ms;
+        }
+
+        public void setP50Ms(double p50Ms) {
+            this.p50Ms = p50Ms;
+        }
+
+        public double getP90Ms() {
+            return p90Ms;
+        }
+
+        public void setP90Ms(double p90Ms) {
+            this.p90Ms = p90Ms;
+        }
+
+        public double getP99Ms() {
+            return p99Ms;
+        }
+
+        public void setP99Ms(double p99Ms) {
+            this.p99Ms = p99Ms;
+        }
+
+        public double getP999Ms() {
+            return p999Ms;
+        }
+
+        public void setP999Ms(double p999Ms) {
+            this.p999Ms = p999Ms;
+        }
+
+        public double getP9999Ms() {
+            return p9999Ms;
+        }
+
+        public void setP9999Ms(double p9999Ms) {
+            this.p9999Ms = p9999Ms;
+        }
+
+        public double getMaxMs() {
+            return maxMs;
+        }
+
+        public void setMaxMs(double maxMs) {
+            this.maxMs = maxMs;
+        }
+    }
+}
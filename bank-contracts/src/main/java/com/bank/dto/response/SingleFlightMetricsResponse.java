@@ -0,0 +1,131 @@
+package com.bank.dto.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for the GET /metrics/single-flight endpoint.
+ * Returns how many calls to coalesced service methods ran and how many shared
+ * the result of an identical call already in flight, overall and per method.
+ */
+public class SingleFlightMetricsResponse {
+
+    private long calls;
+    private long executed;
+    private long deduplicated;
+    private long bypassed;
+    private int inFlight;
+    private List<MethodMetrics> methods;
+
+    public SingleFlightMetricsResponse() {
+    }
+
+    public SingleFlightMetricsResponse(long calls, long executed, long deduplicated, long bypassed, int inFlight,
+            List<MethodMetrics> methods) {
+        this.calls = calls;
+        this.executed = executed;
+        this.deduplicated = deduplicated;
+        this.bypassed = bypassed;
+        this.inFlight = inFlight;
+        this.methods = methods;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public void setCalls(long calls) {
+        this.calls = calls;
+    }
+
+    public long getExecuted() {
+        return executed;
+    }
+
+    public void setExecuted(long executed) {
+        this.executed = executed;
+    }
+
+    public long getDeduplicated() {
+        return deduplicated;
+    }
+
+    public void setDeduplicated(long deduplicated) {
+        this.deduplicated = deduplicated;
+    }
+
+    public long getBypassed() {
+        return bypassed;
+    }
+
+    public void setBypassed(long bypassed) {
+        this.bypassed = bypassed;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public void setInFlight(int inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    public List<MethodMetrics> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(List<MethodMetrics> methods) {
+        this.methods = methods;
+    }
+
+    /**
+     * Counters of a single coalesced method.
+     */
+    public static class MethodMetrics {
+        private String method;
+        private long executed;
+        private long deduplicated;
+        private long bypassed;
+
+        public MethodMetrics() {
+        }
+
+        public MethodMetrics(String method, long executed, long deduplicated, long bypassed) {
+            this.method = method;
+            this.executed = executed;
+            this.deduplicated = deduplicated;
+            this.bypassed = bypassed;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public long getExecuted() {
+            return executed;
+        }
+
+        public void setExecuted(long executed) {
+            this.executed = executed;
+        }
+
+        public long getDeduplicated() {
+            return deduplicated;
+        }
+
+        public void setDeduplicated(long deduplicated) {
+            this.deduplicated = deduplicated;
+        }
+
+        public long getBypassed() {
+            return bypassed;
+        }
+
+        public void setBypassed(long bypassed) {
+            this.bypassed = bypassed;
+        }
+    }
+}
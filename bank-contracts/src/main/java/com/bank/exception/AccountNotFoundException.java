@@ -0,0 +1,29 @@
+package com.bank.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.bank.dto.response.ErrorResponse;
+
+/**
+ * Thrown for unknown account ids or numbers. Stackless, and carries the
+ * response body the exception handler returns, so the not-found path stays
+ * cheap when clients repeatedly ask for accounts that do not exist.
+ */
+public class AccountNotFoundException extends RuntimeException {
+
+    private final transient ErrorResponse errorResponse;
+
+    public AccountNotFoundException(Long id) {
+        super(String.format(ErrorMessages.ACCOUNT_NOT_FOUND, id), null, false, false);
+        this.errorResponse = new ErrorResponse(HttpStatus.NOT_FOUND.value(), getMessage());
+    }
+
+    public AccountNotFoundException(String accountNumber) {
+        super(String.format(ErrorMessages.ACCOUNT_NOT_FOUND_BY_NUMBER, accountNumber), null, false, false);
+        this.errorResponse = new ErrorResponse(HttpStatus.NOT_FOUND.value(), getMessage());
+    }
+
+    public ErrorResponse getErrorResponse() {
+        return errorResponse;
+    }
+}
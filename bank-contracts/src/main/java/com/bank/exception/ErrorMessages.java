@@ -14,14 +14,35 @@ public final class ErrorMessages {
     public static final String USER_NOT_FOUND = "User not found with ID: %d";
     public static final String USER_ALREADY_EXISTS = "User already exists with email: %s";
     public static final String USER_HAS_ACCOUNTS = "Cannot delete user with ID %d because they have associated accounts";
+    public static final String USER_NOT_FOUND_BY_EMAIL = "User not found with email: %s";
 
     // Account-related messages
     public static final String ACCOUNT_NOT_FOUND = "Account not found with ID: %d";
+    public static final String ACCOUNT_NOT_FOUND_BY_NUMBER = "Account not found with number: %s";
     public static final String ACCOUNT_ALREADY_EXISTS = "Account already exists with account number: %s";
     public static final String ACCOUNT_BALANCE_NOT_ZERO = "Cannot delete account with ID %d because balance is not zero";
 
     // Account-User relationship messages
     public static final String USER_ALREADY_ASSOCIATED = "User with ID %d is already associated with account ID %d";
+    public static final String DATA_INTEGRITY_VIOLATION = "The request conflicts with existing data";
+
+    // Bulk operation messages
+    public static final String BULK_ITEMS_REQUIRED = "At least one item is required";
+    public static final String BULK_TOO_MANY_ITEMS = "A bulk request accepts at most {max} items";
+    public static final String BULK_ITEM_REQUIRED = "Item must not be null";
+    public static final String DUPLICATE_EMAIL_IN_REQUEST = "Email appears more than once in the request: %s";
+    public static final String DUPLICATE_ID_IN_REQUEST = "ID appears more than once in the request: %d";
+
+    // Import messages
+    public static final String IMPORT_INVALID_ROW = "Expected accountNumber,balance,primaryUserEmail[,authorizedUserEmail...]";
+    public static final String IMPORT_INVALID_BALANCE = "Invalid balance: %s";
+    public static final String IMPORT_CHUNK_FAILED = "Chunk rolled back: %s";
+    public static final String INTERNAL_SERVER_ERROR = "Internal server error";
+
+    // Async read messages
+    public static final String REQUEST_TIMED_OUT = "The request did not complete in time";
+    public static final String SERVER_BUSY = "The server is busy, please retry later";
+    public static final String REQUEST_TIMEOUT_INVALID = "Request timeout must be a positive number of milliseconds";
 
     // Validation messages
     public static final String METRICS_PARAMETERS_REQUIRED = "At least one of greaterThan or lessThan parameter must be provided";
@@ -33,4 +54,5 @@ public final class ErrorMessages {
     public static final String BALANCE_NON_NEGATIVE = "Balance must be positive or zero";
     public static final String PRIMARY_USER_ID_REQUIRED = "Primary user ID is required";
     public static final String USER_ID_REQUIRED = "User ID is required";
+    public static final String ACCOUNT_ID_REQUIRED = "Account ID is required";
 }
\ No newline at end of file
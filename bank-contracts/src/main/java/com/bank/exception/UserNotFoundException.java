@@ -0,0 +1,24 @@
+package com.bank.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.bank.dto.response.ErrorResponse;
+
+/**
+ * Thrown for unknown user ids. Stackless, and carries the response body the
+ * exception handler returns, so the not-found path stays cheap when clients
+ * repeatedly ask for ids that do not exist.
+ */
+public class UserNotFoundException extends RuntimeException {
+
+    private final transient ErrorResponse errorResponse;
+
+    public UserNotFoundException(Long id) {
+        super(String.format(ErrorMessages.USER_NOT_FOUND, id), null, false, false);
+        this.errorResponse = new ErrorResponse(HttpStatus.NOT_FOUND.value(), getMessage());
+    }
+
+    public ErrorResponse getErrorResponse() {
+        return errorResponse;
+    }
+}
@@ -0,0 +1,29 @@
+#!/bin/bash
+# Side-by-side load test: starts the servlet/JPA application on 8080 and the
+# reactive application on 8081, runs SideBySideLoadTest against both and
+# stops them. Extra arguments are passed to Maven, e.g. -Dloadtest.bursts=100
+set -euo pipefail
+
+HERE="$(cd "$(dirname "$0")" && pwd)"
+ROOT="$(cd "$HERE/.." && pwd)"
+
+# Installs bank-contracts too, so the module build below can resolve it
+(cd "$ROOT" && ./mvnw -q -DskipTests install)
+
+java -jar "$ROOT"/bank-rest-application/target/bank-rest-application-*.jar --server.port=8080 \
+    --spring.jpa.show-sql=false --bank.concurrency-limit.enabled=false --logging.level.org.hibernate.SQL=WARN \
+    --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN > "$HERE/target/servlet.log" 2>&1 &
+SERVLET_PID=$!
+java -jar "$HERE"/target/bank-reactive-*.jar --server.port=8081 > "$HERE/target/reactive.log" 2>&1 &
+REACTIVE_PID=$!
+trap 'kill $SERVLET_PID $REACTIVE_PID 2>/dev/null || true' EXIT
+
+for port in 8080 8081; do
+    until curl -s -o /dev/null "http://localhost:$port/metrics/accounts?greaterThan=0"; do
+        sleep 1
+    done
+done
+
+(cd "$HERE" && ../mvnw -Pbenchmark test -Dtest=SideBySideLoadTest \
+    -Dloadtest.servlet-url=http://localhost:8080 \
+    -Dloadtest.reactive-url=http://localhost:8081 "$@")
@@ -0,0 +1,17 @@
+package com.bank.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * The bank REST API on WebFlux and R2DBC.
+ * Serves the same endpoints and JSON contracts as the servlet/JPA
+ * application so both can be load tested side by side.
+ */
+@SpringBootApplication
+public class ReactiveBankApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveBankApplication.class, args);
+    }
+}
@@ -0,0 +1,73 @@
+package com.bank.reactive.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.UpdateAccountRequest;
+import com.bank.dto.request.UpdateBalanceRequest;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.SuccessResponse;
+import com.bank.reactive.service.ReactiveAccountService;
+
+import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/accounts")
+@Validated
+public class ReactiveAccountController {
+
+    @Autowired
+    private ReactiveAccountService accountService;
+
+    /**
+     * Streams the accounts; request {@code application/x-ndjson} to receive
+     * one JSON document per line as they are read.
+     */
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<AccountResponse> getAllAccounts() {
+        return accountService.findAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<AccountResponse>> getAccountById(@PathVariable Long id) {
+        return accountService.findById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/by-number/{accountNumber}")
+    public Mono<ResponseEntity<AccountResponse>> getAccountByNumber(@PathVariable String accountNumber) {
+        return accountService.findByAccountNumber(accountNumber).map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<AccountResponse>> createAccount(@Valid @RequestBody CreateAccountRequest request) {
+        return accountService.createAccount(request)
+                .map(account -> ResponseEntity.status(HttpStatus.CREATED).body(account));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<AccountResponse>> updateAccount(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateAccountRequest request) {
+        return accountService.updateAccount(id, request).map(ResponseEntity::ok);
+    }
+
+    @PatchMapping("/{id}/balance")
+    public Mono<ResponseEntity<AccountResponse>> updateBalance(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateBalanceRequest request) {
+        return accountService.updateBalance(id, request.getBalance()).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<SuccessResponse>> deleteAccount(@PathVariable Long id) {
+        return accountService.deleteAccount(id)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok(SuccessResponse.of("Account deleted successfully"))));
+    }
+}
@@ -0,0 +1,32 @@
+package com.bank.reactive.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.bank.dto.response.AccountMetricsResponse;
+import com.bank.exception.ErrorMessages;
+import com.bank.reactive.service.ReactiveAccountService;
+
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+@RestController
+@RequestMapping("/metrics")
+public class ReactiveMetricsController {
+
+    @Autowired
+    private ReactiveAccountService accountService;
+
+    @GetMapping("/accounts")
+    public Mono<ResponseEntity<AccountMetricsResponse>> getAccountMetrics(
+            @RequestParam(required = false) BigDecimal greaterThan,
+            @RequestParam(required = false) BigDecimal lessThan) {
+
+        if (greaterThan == null && lessThan == null) {
+            return Mono.error(new IllegalArgumentException(ErrorMessages.METRICS_PARAMETERS_REQUIRED));
+        }
+        return accountService.getAccountMetrics(greaterThan, lessThan).map(ResponseEntity::ok);
+    }
+}
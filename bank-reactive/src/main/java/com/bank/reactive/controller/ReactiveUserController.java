@@ -0,0 +1,66 @@
+package com.bank.reactive.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.request.UpdateUserRequest;
+import com.bank.dto.response.SuccessResponse;
+import com.bank.dto.response.UserBalanceResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.reactive.service.ReactiveUserService;
+
+import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/users")
+@Validated
+public class ReactiveUserController {
+
+    @Autowired
+    private ReactiveUserService userService;
+
+    /**
+     * Streams the users; request {@code application/x-ndjson} to receive one
+     * JSON document per line as they are read.
+     */
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<UserResponse> getAllUsers() {
+        return userService.findAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UserResponse>> getUserById(@PathVariable Long id) {
+        return userService.findById(id).map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<UserResponse>> createUser(@Valid @RequestBody CreateUserRequest request) {
+        return userService.createUser(request)
+                .map(user -> ResponseEntity.status(HttpStatus.CREATED).body(user));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<UserResponse>> updateUser(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateUserRequest request) {
+        return userService.updateUser(id, request).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<SuccessResponse>> deleteUser(@PathVariable Long id) {
+        return userService.deleteUser(id)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok(SuccessResponse.of("User deleted successfully"))));
+    }
+
+    @GetMapping("/{id}/balance")
+    public Mono<ResponseEntity<UserBalanceResponse>> getUserBalance(@PathVariable Long id) {
+        return userService.getUserBalance(id).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,86 @@
+package com.bank.reactive.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.AccountUserDTO;
+import com.bank.dto.response.UserBalanceResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.reactive.repository.AccountUserRow;
+
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the shared response DTOs from joined rows.
+ * Plays the role of the servlet application's MapStruct mappers, which map
+ * JPA entities and therefore cannot be reused here. Rows must arrive grouped
+ * by user (or account) and already in response order.
+ */
+@Component
+public class ReactiveResponseMapper {
+
+    /**
+     * Groups consecutive rows of the same user into one response, so a
+     * streamed list never holds more than one user's rows in memory.
+     */
+    public Flux<UserResponse> toUserResponses(Flux<AccountUserRow> rows) {
+        return rows.bufferUntilChanged(AccountUserRow::userId).map(this::toUserResponse);
+    }
+
+    public UserResponse toUserResponse(List<AccountUserRow> rows) {
+        AccountUserRow first = rows.get(0);
+        List<AccountUserDTO> accounts = new ArrayList<>(rows.size());
+        for (AccountUserRow row : rows) {
+            if (row.accountId() != null) {
+                AccountUserDTO dto = new AccountUserDTO();
+                dto.setAccountId(row.accountId());
+                dto.setAccountNumber(row.accountNumber());
+                dto.setBalance(row.balance());
+                dto.setRole(row.role());
+                accounts.add(dto);
+            }
+        }
+        return new UserResponse(first.userId(), first.userName(), first.userEmail(), accounts);
+    }
+
+    public UserBalanceResponse toBalanceResponse(List<AccountUserRow> rows) {
+        AccountUserRow first = rows.get(0);
+        List<UserBalanceResponse.AccountSummary> accounts = new ArrayList<>(rows.size());
+        BigDecimal total = BigDecimal.ZERO;
+        for (AccountUserRow row : rows) {
+            if (row.accountId() != null) {
+                accounts.add(new UserBalanceResponse.AccountSummary(row.accountId(), row.accountNumber(),
+                        row.balance(), row.role()));
+                total = total.add(row.balance());
+            }
+        }
+        return new UserBalanceResponse(first.userId(), first.userName(), first.userEmail(), total, accounts);
+    }
+
+    /**
+     * Groups consecutive rows of the same account into one response.
+     */
+    public Flux<AccountResponse> toAccountResponses(Flux<AccountUserRow> rows) {
+        return rows.bufferUntilChanged(AccountUserRow::accountId).map(this::toAccountResponse);
+    }
+
+    public AccountResponse toAccountResponse(List<AccountUserRow> rows) {
+        AccountUserRow first = rows.get(0);
+        List<AccountUserDTO> users = new ArrayList<>(rows.size());
+        for (AccountUserRow row : rows) {
+            if (row.userId() != null) {
+                AccountUserDTO dto = new AccountUserDTO();
+                dto.setUserId(row.userId());
+                dto.setUserName(row.userName());
+                dto.setUserEmail(row.userEmail());
+                dto.setRole(row.role());
+                users.add(dto);
+            }
+        }
+        return new AccountResponse(first.accountId(), first.accountNumber(), first.balance(), users);
+    }
+}
@@ -0,0 +1,18 @@
+package com.bank.reactive.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of a users LEFT JOIN account_users LEFT JOIN accounts query (or the
+ * same join starting from accounts). Association columns are null when the
+ * user has no accounts, or the account no users.
+ */
+public record AccountUserRow(
+        Long userId,
+        String userName,
+        String userEmail,
+        Long accountId,
+        String accountNumber,
+        BigDecimal balance,
+        String role) {
+}
@@ -0,0 +1,134 @@
+package com.bank.reactive.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Non-blocking account queries. Accounts are always read together with their
+ * users in one joined query, ordered so that the rows of an account are
+ * adjacent, PRIMARY user first and then by user id.
+ */
+@Repository
+public class ReactiveAccountRepository {
+
+    private static final String SELECT_WITH_USERS = "SELECT u.id AS user_id, u.name, u.email, "
+            + "a.id AS account_id, a.account_number, a.balance, au.role "
+            + "FROM accounts a "
+            + "LEFT JOIN account_users au ON au.account_id = a.id "
+            + "LEFT JOIN users u ON u.id = au.user_id ";
+
+    private static final String ORDER_BY = " ORDER BY a.id, CASE au.role WHEN 'PRIMARY' THEN 0 ELSE 1 END, u.id";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Flux<AccountUserRow> findAllWithUsers() {
+        return databaseClient.sql(SELECT_WITH_USERS + ORDER_BY)
+                .map(ReactiveUserRepository::toRow)
+                .all();
+    }
+
+    public Flux<AccountUserRow> findWithUsers(Long id) {
+        return databaseClient.sql(SELECT_WITH_USERS + "WHERE a.id = :id" + ORDER_BY)
+                .bind("id", id)
+                .map(ReactiveUserRepository::toRow)
+                .all();
+    }
+
+    public Flux<AccountUserRow> findWithUsersByAccountNumber(String accountNumber) {
+        return databaseClient.sql(SELECT_WITH_USERS + "WHERE a.account_number = :accountNumber" + ORDER_BY)
+                .bind("accountNumber", accountNumber)
+                .map(ReactiveUserRepository::toRow)
+                .all();
+    }
+
+    public Mono<Boolean> existsByAccountNumber(String accountNumber) {
+        return databaseClient.sql("SELECT 1 FROM accounts WHERE account_number = :accountNumber")
+                .bind("accountNumber", accountNumber)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    public Mono<BigDecimal> findBalance(Long id) {
+        return databaseClient.sql("SELECT balance FROM accounts WHERE id = :id")
+                .bind("id", id)
+                .map(row -> row.get("balance", BigDecimal.class))
+                .one();
+    }
+
+    /**
+     * @return the generated account id
+     */
+    public Mono<Long> insert(String accountNumber, BigDecimal balance) {
+        return databaseClient.sql("INSERT INTO accounts (account_number, balance) VALUES (:accountNumber, :balance)")
+                .bind("accountNumber", accountNumber)
+                .bind("balance", balance)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one();
+    }
+
+    public Mono<Long> insertAccountUser(Long accountId, Long userId, String role) {
+        return databaseClient.sql("INSERT INTO account_users (account_id, user_id, role) VALUES (:accountId, :userId, :role)")
+                .bind("accountId", accountId)
+                .bind("userId", userId)
+                .bind("role", role)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> update(Long id, String accountNumber, BigDecimal balance) {
+        return databaseClient.sql("UPDATE accounts SET account_number = :accountNumber, balance = :balance WHERE id = :id")
+                .bind("accountNumber", accountNumber)
+                .bind("balance", balance)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> updateBalance(Long id, BigDecimal balance) {
+        return databaseClient.sql("UPDATE accounts SET balance = :balance WHERE id = :id")
+                .bind("balance", balance)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM accounts WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> countByBalanceGreaterThan(BigDecimal balance) {
+        return count("SELECT COUNT(*) AS total FROM accounts WHERE balance > :lower", balance, null);
+    }
+
+    public Mono<Long> countByBalanceLessThan(BigDecimal balance) {
+        return count("SELECT COUNT(*) AS total FROM accounts WHERE balance < :upper", null, balance);
+    }
+
+    public Mono<Long> countByBalanceBetween(BigDecimal greaterThan, BigDecimal lessThan) {
+        return count("SELECT COUNT(*) AS total FROM accounts WHERE balance > :lower AND balance < :upper",
+                greaterThan, lessThan);
+    }
+
+    private Mono<Long> count(String sql, BigDecimal lower, BigDecimal upper) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        if (lower != null) {
+            spec = spec.bind("lower", lower);
+        }
+        if (upper != null) {
+            spec = spec.bind("upper", upper);
+        }
+        return spec.map(row -> row.get("total", Long.class)).one();
+    }
+}
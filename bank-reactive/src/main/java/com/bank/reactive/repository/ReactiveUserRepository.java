@@ -0,0 +1,112 @@
+package com.bank.reactive.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Non-blocking user queries. Users are always read together with their
+ * accounts in one joined query, ordered so that the rows of a user are
+ * adjacent, PRIMARY accounts first and then by account id.
+ */
+@Repository
+public class ReactiveUserRepository {
+
+    private static final String SELECT_WITH_ACCOUNTS = "SELECT u.id AS user_id, u.name, u.email, "
+            + "a.id AS account_id, a.account_number, a.balance, au.role "
+            + "FROM users u "
+            + "LEFT JOIN account_users au ON au.user_id = u.id "
+            + "LEFT JOIN accounts a ON a.id = au.account_id ";
+
+    private static final String ORDER_BY = " ORDER BY u.id, CASE au.role WHEN 'PRIMARY' THEN 0 ELSE 1 END, a.id";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Flux<AccountUserRow> findAllWithAccounts() {
+        return databaseClient.sql(SELECT_WITH_ACCOUNTS + ORDER_BY)
+                .map(ReactiveUserRepository::toRow)
+                .all();
+    }
+
+    public Flux<AccountUserRow> findWithAccounts(Long id) {
+        return databaseClient.sql(SELECT_WITH_ACCOUNTS + "WHERE u.id = :id" + ORDER_BY)
+                .bind("id", id)
+                .map(ReactiveUserRepository::toRow)
+                .all();
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return exists("SELECT 1 FROM users WHERE id = :value", id);
+    }
+
+    public Mono<Boolean> existsByEmail(String email) {
+        return exists("SELECT 1 FROM users WHERE email = :value", email);
+    }
+
+    public Mono<Boolean> existsByEmailAndIdNot(String email, Long id) {
+        return databaseClient.sql("SELECT 1 FROM users WHERE email = :email AND id <> :id")
+                .bind("email", email)
+                .bind("id", id)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    public Mono<Boolean> hasAccounts(Long id) {
+        return exists("SELECT 1 FROM account_users WHERE user_id = :value", id);
+    }
+
+    /**
+     * @return the generated user id
+     */
+    public Mono<Long> insert(String name, String email) {
+        return databaseClient.sql("INSERT INTO users (name, email) VALUES (:name, :email)")
+                .bind("name", name)
+                .bind("email", email)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one();
+    }
+
+    public Mono<Long> update(Long id, String name, String email) {
+        return databaseClient.sql("UPDATE users SET name = :name, email = :email WHERE id = :id")
+                .bind("name", name)
+                .bind("email", email)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM users WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Mono<Boolean> exists(String sql, Object value) {
+        return databaseClient.sql(sql)
+                .bind("value", value)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    static AccountUserRow toRow(Readable row) {
+        return new AccountUserRow(
+                row.get("user_id", Long.class),
+                row.get("name", String.class),
+                row.get("email", String.class),
+                row.get("account_id", Long.class),
+                row.get("account_number", String.class),
+                row.get("balance", BigDecimal.class),
+                row.get("role", String.class));
+    }
+}
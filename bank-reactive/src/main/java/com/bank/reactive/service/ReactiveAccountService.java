@@ -0,0 +1,127 @@
+package com.bank.reactive.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.UpdateAccountRequest;
+import com.bank.dto.response.AccountMetricsResponse;
+import com.bank.dto.response.AccountResponse;
+import com.bank.exception.AccountAlreadyExistsException;
+import com.bank.exception.AccountBalanceNotZeroException;
+import com.bank.exception.AccountNotFoundException;
+import com.bank.exception.UserNotFoundException;
+import com.bank.reactive.mapper.ReactiveResponseMapper;
+import com.bank.reactive.repository.AccountUserRow;
+import com.bank.reactive.repository.ReactiveAccountRepository;
+import com.bank.reactive.repository.ReactiveUserRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Service
+public class ReactiveAccountService {
+
+    private static final String PRIMARY_ROLE = "PRIMARY";
+
+    @Autowired
+    private ReactiveAccountRepository accountRepository;
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private ReactiveResponseMapper responseMapper;
+
+    @Value("${bank.reactive.stream-batch-size:256}")
+    private int streamBatchSize;
+
+    /**
+     * Streams all accounts, requesting rows in batches as the client reads.
+     */
+    public Flux<AccountResponse> findAll() {
+        return responseMapper.toAccountResponses(accountRepository.findAllWithUsers().limitRate(streamBatchSize));
+    }
+
+    public Mono<AccountResponse> findById(Long id) {
+        return orError(accountRepository.findWithUsers(id), () -> new AccountNotFoundException(id))
+                .map(responseMapper::toAccountResponse);
+    }
+
+    public Mono<AccountResponse> findByAccountNumber(String accountNumber) {
+        return orError(accountRepository.findWithUsersByAccountNumber(accountNumber),
+                () -> new AccountNotFoundException(accountNumber))
+                .map(responseMapper::toAccountResponse);
+    }
+
+    @Transactional
+    public Mono<AccountResponse> createAccount(CreateAccountRequest request) {
+        return accountRepository.existsByAccountNumber(request.getAccountNumber())
+                .flatMap(exists -> exists
+                        ? Mono.<Boolean>error(new AccountAlreadyExistsException(request.getAccountNumber()))
+                        : userRepository.existsById(request.getPrimaryUserId()))
+                .flatMap(userExists -> userExists
+                        ? accountRepository.insert(request.getAccountNumber(), request.getBalance())
+                        : Mono.<Long>error(new UserNotFoundException(request.getPrimaryUserId())))
+                .flatMap(accountId -> accountRepository
+                        .insertAccountUser(accountId, request.getPrimaryUserId(), PRIMARY_ROLE)
+                        .then(findById(accountId)));
+    }
+
+    @Transactional
+    public Mono<AccountResponse> updateAccount(Long id, UpdateAccountRequest request) {
+        return findById(id)
+                .flatMap(account -> account.getAccountNumber().equals(request.getAccountNumber())
+                        ? Mono.just(Boolean.FALSE)
+                        : accountRepository.existsByAccountNumber(request.getAccountNumber()))
+                .flatMap(taken -> taken
+                        ? Mono.<Long>error(new AccountAlreadyExistsException(request.getAccountNumber()))
+                        : accountRepository.update(id, request.getAccountNumber(), request.getBalance()))
+                .then(findById(id));
+    }
+
+    @Transactional
+    public Mono<AccountResponse> updateBalance(Long id, BigDecimal balance) {
+        return accountRepository.updateBalance(id, balance)
+                .flatMap(updated -> updated == 0
+                        ? Mono.<AccountResponse>error(new AccountNotFoundException(id))
+                        : findById(id));
+    }
+
+    @Transactional
+    public Mono<Void> deleteAccount(Long id) {
+        return accountRepository.findBalance(id)
+                .switchIfEmpty(Mono.error(() -> new AccountNotFoundException(id)))
+                .flatMap(balance -> balance.compareTo(BigDecimal.ZERO) != 0
+                        ? Mono.<Long>error(new AccountBalanceNotZeroException(id))
+                        : accountRepository.deleteById(id))
+                .then();
+    }
+
+    public Mono<AccountMetricsResponse> getAccountMetrics(BigDecimal greaterThan, BigDecimal lessThan) {
+        if (greaterThan != null && lessThan != null) {
+            return accountRepository.countByBalanceBetween(greaterThan, lessThan)
+                    .map(count -> new AccountMetricsResponse(count,
+                            "balance > " + greaterThan + " AND balance < " + lessThan));
+        }
+        if (greaterThan != null) {
+            return accountRepository.countByBalanceGreaterThan(greaterThan)
+                    .map(count -> new AccountMetricsResponse(count, "balance > " + greaterThan));
+        }
+        return accountRepository.countByBalanceLessThan(lessThan)
+                .map(count -> new AccountMetricsResponse(count, "balance < " + lessThan));
+    }
+
+    private static Mono<List<AccountUserRow>> orError(Flux<AccountUserRow> rows,
+            Supplier<RuntimeException> notFound) {
+        return rows.collectList()
+                .filter(list -> !list.isEmpty())
+                .switchIfEmpty(Mono.error(notFound));
+    }
+}
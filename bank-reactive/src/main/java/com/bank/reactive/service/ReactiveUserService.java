@@ -0,0 +1,99 @@
+package com.bank.reactive.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.request.UpdateUserRequest;
+import com.bank.dto.response.UserBalanceResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.exception.UserAlreadyExistsException;
+import com.bank.exception.UserHasAccountsException;
+import com.bank.exception.UserNotFoundException;
+import com.bank.reactive.mapper.ReactiveResponseMapper;
+import com.bank.reactive.repository.AccountUserRow;
+import com.bank.reactive.repository.ReactiveUserRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Service
+public class ReactiveUserService {
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private ReactiveResponseMapper responseMapper;
+
+    @Value("${bank.reactive.stream-batch-size:256}")
+    private int streamBatchSize;
+
+    /**
+     * Streams all users. Rows are requested from the database in batches as
+     * the client consumes the response, so a slow reader slows the query
+     * down instead of buffering the table.
+     */
+    public Flux<UserResponse> findAll() {
+        return responseMapper.toUserResponses(userRepository.findAllWithAccounts().limitRate(streamBatchSize));
+    }
+
+    public Mono<UserResponse> findById(Long id) {
+        return getRowsOrError(id).map(responseMapper::toUserResponse);
+    }
+
+    public Mono<UserBalanceResponse> getUserBalance(Long id) {
+        return getRowsOrError(id).map(responseMapper::toBalanceResponse);
+    }
+
+    @Transactional
+    public Mono<UserResponse> createUser(CreateUserRequest request) {
+        String normalizedEmail = normalizeEmail(request.getEmail());
+        return userRepository.existsByEmail(normalizedEmail)
+                .flatMap(exists -> exists
+                        ? Mono.<UserResponse>error(new UserAlreadyExistsException(normalizedEmail))
+                        : userRepository.insert(request.getName(), normalizedEmail)
+                                .map(id -> new UserResponse(id, request.getName(), normalizedEmail, List.of())));
+    }
+
+    @Transactional
+    public Mono<UserResponse> updateUser(Long id, UpdateUserRequest request) {
+        String normalizedEmail = normalizeEmail(request.getEmail());
+        return requireUser(id)
+                .then(userRepository.existsByEmailAndIdNot(normalizedEmail, id))
+                .flatMap(taken -> taken
+                        ? Mono.<Long>error(new UserAlreadyExistsException(normalizedEmail))
+                        : userRepository.update(id, request.getName(), normalizedEmail))
+                .then(findById(id));
+    }
+
+    @Transactional
+    public Mono<Void> deleteUser(Long id) {
+        return requireUser(id)
+                .then(userRepository.hasAccounts(id))
+                .flatMap(hasAccounts -> hasAccounts
+                        ? Mono.<Long>error(new UserHasAccountsException(id))
+                        : userRepository.deleteById(id))
+                .then();
+    }
+
+    private Mono<List<AccountUserRow>> getRowsOrError(Long id) {
+        return userRepository.findWithAccounts(id)
+                .collectList()
+                .filter(rows -> !rows.isEmpty())
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(id)));
+    }
+
+    private Mono<Void> requireUser(Long id) {
+        return userRepository.existsById(id)
+                .flatMap(exists -> exists ? Mono.<Void>empty() : Mono.error(new UserNotFoundException(id)));
+    }
+
+    private String normalizeEmail(String email) {
+        return email != null ? email.toLowerCase().trim() : null;
+    }
+}
@@ -1,20 +1,19 @@
--- Users table
+-- Same tables as the servlet application; identity ids are enough here
+-- because the reactive stack does not use Hibernate's batched inserts
 CREATE TABLE IF NOT EXISTS users (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(100) NOT NULL,
     email VARCHAR(100) NOT NULL UNIQUE
 );
 
--- Accounts table  
 CREATE TABLE IF NOT EXISTS accounts (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
     account_number VARCHAR(100) NOT NULL UNIQUE,
     balance DECIMAL(19,2) NOT NULL DEFAULT 0.00
 );
 
--- Account Users association table
 CREATE TABLE IF NOT EXISTS account_users (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
     user_id BIGINT NOT NULL,
     account_id BIGINT NOT NULL,
     role VARCHAR(20) NOT NULL,
@@ -24,7 +23,6 @@ CREATE TABLE IF NOT EXISTS account_users (
     CHECK (role IN ('PRIMARY', 'AUTHORIZED'))
 );
 
--- Indexes for better query performance
-CREATE INDEX idx_account_users_account_id ON account_users(account_id);
-CREATE INDEX idx_account_users_user_id ON account_users(user_id);
-CREATE INDEX idx_account_users_role ON account_users(role);
+CREATE INDEX IF NOT EXISTS idx_account_users_account_id ON account_users(account_id);
+CREATE INDEX IF NOT EXISTS idx_account_users_user_id ON account_users(user_id);
+CREATE INDEX IF NOT EXISTS idx_accounts_balance ON accounts(balance);
@@ -0,0 +1,175 @@
+package com.bank.reactive.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Bursty load against the servlet/JPA application and this reactive one,
+ * both already running (see load-test.sh). Each round fires a burst of
+ * simultaneous requests at one stack and then the other, then pauses, so both
+ * see the same pattern under the same machine conditions. The mix is user
+ * balance, account by id and balance metrics reads. Latency percentiles are
+ * printed per stack.
+ * <p>
+ * Properties: {@code loadtest.servlet-url}, {@code loadtest.reactive-url}
+ * (both required), {@code loadtest.bursts} (50), {@code loadtest.burst-size}
+ * (1000), {@code loadtest.pause-ms} (200), {@code loadtest.users} (100).
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "loadtest.servlet-url", matches = ".+")
+@EnabledIfSystemProperty(named = "loadtest.reactive-url", matches = ".+")
+class SideBySideLoadTest {
+
+    private static final int BURSTS = Integer.getInteger("loadtest.bursts", 50);
+    private static final int BURST_SIZE = Integer.getInteger("loadtest.burst-size", 1000);
+    private static final long PAUSE_MS = Long.getLong("loadtest.pause-ms", 200);
+    private static final int USERS = Integer.getInteger("loadtest.users", 100);
+    private static final int ACCOUNTS_PER_USER = 4;
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(executor)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    @Test
+    void compareTailLatencyUnderBursts() throws Exception {
+        try {
+            Target servlet = seed("servlet", System.getProperty("loadtest.servlet-url"));
+            Target reactive = seed("reactive", System.getProperty("loadtest.reactive-url"));
+
+            // Warm up both stacks before measuring
+            burst(servlet, BURST_SIZE, 0);
+            burst(reactive, BURST_SIZE, 0);
+            servlet.reset();
+            reactive.reset();
+
+            for (int round = 0; round < BURSTS; round++) {
+                burst(servlet, BURST_SIZE, round);
+                burst(reactive, BURST_SIZE, round);
+                Thread.sleep(PAUSE_MS);
+            }
+
+            servlet.report();
+            reactive.report();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Target seed(String name, String baseUrl) throws Exception {
+        Target target = new Target(name, baseUrl);
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        for (int u = 0; u < USERS; u++) {
+            long userId = createdId(post(baseUrl + "/users",
+                    "{\"name\":\"Load " + u + "\",\"email\":\"load-" + run + "-" + u + "@example.com\"}"));
+            target.userIds.add(userId);
+            for (int a = 0; a < ACCOUNTS_PER_USER; a++) {
+                target.accountIds.add(createdId(post(baseUrl + "/accounts",
+                        "{\"accountNumber\":\"LOAD-" + run + "-" + u + "-" + a + "\",\"balance\":" + (a * 500)
+                                + ",\"primaryUserId\":" + userId + "}")));
+            }
+        }
+        return target;
+    }
+
+    private void burst(Target target, int size, int round) {
+        List<CompletableFuture<?>> inFlight = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int n = round * size + i;
+            String path = switch (n % 3) {
+                case 0 -> "/users/" + target.userIds.get(n % target.userIds.size()) + "/balance";
+                case 1 -> "/accounts/" + target.accountIds.get(n % target.accountIds.size());
+                default -> "/metrics/accounts?greaterThan=" + (n % 2000);
+            };
+            HttpRequest request = HttpRequest.newBuilder(URI.create(target.baseUrl + path)).GET().build();
+            long sent = System.nanoTime();
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> target.record(System.nanoTime() - sent,
+                            error == null && response.statusCode() == 200)));
+        }
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0])).exceptionally(ex -> null).join();
+    }
+
+    private String post(String url, String json) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Seeding " + url + " failed: " + response.statusCode() + " " + response.body());
+        }
+        return response.body();
+    }
+
+    private static long createdId(String body) {
+        Matcher matcher = ID.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No id in " + body);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static final class Target {
+        private final String name;
+        private final String baseUrl;
+        private final List<Long> userIds = new ArrayList<>();
+        private final List<Long> accountIds = new ArrayList<>();
+        private long[] latencies = new long[1024];
+        private int count;
+        private final AtomicLong failures = new AtomicLong();
+
+        private Target(String name, String baseUrl) {
+            this.name = name;
+            this.baseUrl = baseUrl;
+        }
+
+        private synchronized void record(long nanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!success) {
+                failures.incrementAndGet();
+            }
+        }
+
+        private synchronized void reset() {
+            count = 0;
+            failures.set(0);
+        }
+
+        private synchronized void report() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("[loadtest] stack=%s requests=%d failures=%d p50=%.1f ms p90=%.1f ms "
+                    + "p99=%.1f ms p99.9=%.1f ms max=%.1f ms%n",
+                    name, count, failures.get(), percentile(sorted, 0.50), percentile(sorted, 0.90),
+                    percentile(sorted, 0.99), percentile(sorted, 0.999), sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.bank.reactive.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.request.UpdateBalanceRequest;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.exception.ErrorMessages;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveApiIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void createUserAndAccount_ThenBalance_ReturnsTotal() {
+        UserResponse user = createUser();
+        createAccount(user.getId(), "1000.00");
+        createAccount(user.getId(), "250.50");
+
+        webTestClient.get().uri("/users/{id}/balance", user.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.userId").isEqualTo(user.getId().intValue())
+                .jsonPath("$.totalBalance").isEqualTo(1250.50)
+                .jsonPath("$.accounts.length()").isEqualTo(2)
+                .jsonPath("$.accounts[0].role").isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void updateBalance_ExistingAccount_ReturnsUpdatedAccount() {
+        UserResponse user = createUser();
+        AccountResponse account = createAccount(user.getId(), "10.00");
+
+        webTestClient.patch().uri("/accounts/{id}/balance", account.getId())
+                .bodyValue(new UpdateBalanceRequest(new BigDecimal("99.99")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.balance").isEqualTo(99.99)
+                .jsonPath("$.users[0].userId").isEqualTo(user.getId().intValue());
+    }
+
+    @Test
+    void getUserById_NonExistingUser_ReturnsNotFound() {
+        webTestClient.get().uri("/users/{id}", 999999)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo(String.format(ErrorMessages.USER_NOT_FOUND, 999999L));
+    }
+
+    @Test
+    void createUser_DuplicateEmail_ReturnsConflict() {
+        UserResponse user = createUser();
+
+        webTestClient.post().uri("/users")
+                .bodyValue(new CreateUserRequest("Other", user.getEmail()))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void createUser_InvalidEmail_ReturnsBadRequest() {
+        webTestClient.post().uri("/users")
+                .bodyValue(new CreateUserRequest("Name", "not-an-email"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.email").isEqualTo(ErrorMessages.EMAIL_INVALID);
+    }
+
+    @Test
+    void getAccountMetrics_NoParameters_ReturnsBadRequest() {
+        webTestClient.get().uri("/metrics/accounts")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo(ErrorMessages.METRICS_PARAMETERS_REQUIRED);
+    }
+
+    @Test
+    void getAllAccounts_Ndjson_StreamsOneDocumentPerAccount() {
+        UserResponse user = createUser();
+        AccountResponse first = createAccount(user.getId(), "1.00");
+        AccountResponse second = createAccount(user.getId(), "2.00");
+
+        var accounts = webTestClient.get().uri("/accounts")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(AccountResponse.class)
+                .getResponseBody()
+                .map(AccountResponse::getId)
+                .collectList()
+                .block();
+
+        assertThat(accounts).contains(first.getId(), second.getId());
+    }
+
+    private UserResponse createUser() {
+        String email = "user-" + UUID.randomUUID() + "@example.com";
+        return webTestClient.post().uri("/users")
+                .bodyValue(new CreateUserRequest("Reactive User", email))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(UserResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private AccountResponse createAccount(Long userId, String balance) {
+        return webTestClient.post().uri("/accounts")
+                .bodyValue(new CreateAccountRequest("RX-" + UUID.randomUUID(), new BigDecimal(balance), userId))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(AccountResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
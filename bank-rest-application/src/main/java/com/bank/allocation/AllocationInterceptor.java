@@ -0,0 +1,65 @@
+package com.bank.allocation;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the bytes the request thread allocates between the start of a
+ * controller mapping and the end of its response, including serialization,
+ * as {@code METHOD /pattern}. The value is also left in the
+ * {@link #ALLOCATED_BYTES_ATTRIBUTE} request attribute.
+ * <p>
+ * Asynchronous handlers are not recorded: their work runs on other threads.
+ */
+@Component
+public class AllocationInterceptor implements AsyncHandlerInterceptor {
+
+    /**
+     * Request attribute holding the bytes allocated by the request, once it completes.
+     */
+    public static final String ALLOCATED_BYTES_ATTRIBUTE = AllocationInterceptor.class.getName() + ".ALLOCATED_BYTES";
+
+    private static final String START_ATTRIBUTE = AllocationInterceptor.class.getName() + ".START";
+
+    private final AllocationRecorder allocationRecorder;
+
+    public AllocationInterceptor(AllocationRecorder allocationRecorder) {
+        this.allocationRecorder = allocationRecorder;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            long allocated = allocationRecorder.currentThreadAllocatedBytes();
+            if (allocated >= 0) {
+                request.setAttribute(START_ATTRIBUTE, allocated);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        request.removeAttribute(START_ATTRIBUTE);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            request.removeAttribute(START_ATTRIBUTE);
+            long bytes = allocationRecorder.currentThreadAllocatedBytes() - start;
+            request.setAttribute(ALLOCATED_BYTES_ATTRIBUTE, bytes);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            allocationRecorder.record(request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()),
+                    bytes);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.bank.allocation;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import com.bank.dto.response.AllocationResponse;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Histograms of the bytes each controller mapping allocates per request,
+ * since startup.
+ * <p>
+ * Allocations are read from the JVM's per-thread allocation counter
+ * ({@code com.sun.management.ThreadMXBean}), which costs about as much as a
+ * clock read. On a JVM without that counter nothing is recorded.
+ */
+@Component
+public class AllocationRecorder {
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final Map<String, Histogram> endpoints = new ConcurrentHashMap<>();
+
+    public AllocationRecorder() {
+        com.sun.management.ThreadMXBean supported = null;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            supported = bean;
+        }
+        this.threads = supported;
+    }
+
+    /**
+     * @return bytes allocated by the current thread so far, or -1 when the JVM
+     *         cannot tell
+     */
+    public long currentThreadAllocatedBytes() {
+        return threads != null ? threads.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    public void record(String endpoint, long bytes) {
+        endpoints.computeIfAbsent(endpoint, name -> new ConcurrentHistogram(3)).recordValue(Math.max(0, bytes));
+    }
+
+    public AllocationResponse getAllocations() {
+        List<AllocationResponse.EndpointAllocations> result = new ArrayList<>();
+        endpoints.forEach((endpoint, histogram) -> {
+            Histogram copy = histogram.copy();
+            result.add(new AllocationResponse.EndpointAllocations(endpoint, copy.getTotalCount(),
+                    (long) copy.getMean(), copy.getValueAtPercentile(50), copy.getValueAtPercentile(90),
+                    copy.getValueAtPercentile(99), copy.getMaxValue()));
+        });
+        result.sort(Comparator.comparing(AllocationResponse.EndpointAllocations::getEndpoint));
+        return new AllocationResponse(threads != null, result);
+    }
+}
@@ -0,0 +1,69 @@
+package com.bank.archive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bank.service.AccountArchiveService;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Background job moving dormant zero-balance accounts to the archive tables,
+ * so {@code accounts}, {@code account_users} and their indexes only hold the
+ * rows that are still in use.
+ * <p>
+ * Each run archives chunks of {@code chunk-size} accounts, each in its own
+ * short transaction, and sleeps {@code pause-between-chunks} between them so
+ * the row locks and writes never compete with request traffic for long. A
+ * run stops after {@code max-chunks-per-run} chunks; the rest waits for the
+ * next run.
+ */
+@Component
+@ConditionalOnProperty(name = "bank.archival.enabled", havingValue = "true")
+public class AccountArchiver {
+
+    private final AccountArchiveService accountArchiveService;
+    private final Duration dormantAfter;
+    private final int chunkSize;
+    private final Duration pauseBetweenChunks;
+    private final int maxChunksPerRun;
+
+    public AccountArchiver(AccountArchiveService accountArchiveService,
+            @Value("${bank.archival.dormant-after:P365D}") Duration dormantAfter,
+            @Value("${bank.archival.chunk-size:500}") int chunkSize,
+            @Value("${bank.archival.pause-between-chunks:PT0.2S}") Duration pauseBetweenChunks,
+            @Value("${bank.archival.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.accountArchiveService = accountArchiveService;
+        this.dormantAfter = dormantAfter;
+        this.chunkSize = chunkSize;
+        this.pauseBetweenChunks = pauseBetweenChunks;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    /**
+     * @return number of accounts archived by this run
+     */
+    @Scheduled(initialDelayString = "${bank.archival.interval:PT1H}",
+            fixedDelayString = "${bank.archival.interval:PT1H}")
+    public int archive() {
+        Instant inactiveSince = Instant.now().minus(dormantAfter);
+        int archived = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int moved = accountArchiveService.archiveDormantAccounts(inactiveSince, chunkSize);
+            archived += moved;
+            if (moved < chunkSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pauseBetweenChunks.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return archived;
+    }
+}
@@ -0,0 +1,138 @@
+package com.bank.async;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.bank.datasource.ReplicaRoutingContext;
+import com.bank.singleflight.RequestStart;
+import com.bank.dto.response.AsyncExecutorMetricsResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor for the asynchronous read endpoints, separate from the
+ * servlet container threads.
+ * <p>
+ * Work beyond the pool and queue capacity is rejected immediately instead of
+ * piling up. Every call has a timeout; a task whose caller already timed out
+ * is skipped when it reaches the front of the queue, so a backlog of slow
+ * queries drains instead of running for nobody. Queue wait and run times are
+ * recorded for {@code GET /metrics/async-executor}.
+ */
+@Component
+public class AsyncReadExecutor implements DisposableBean {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final int queueCapacity;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder runNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxRunNanos = new LongAccumulator(Math::max, 0);
+
+    public AsyncReadExecutor(@Value("${bank.async.core-pool-size:8}") int corePoolSize,
+            @Value("${bank.async.max-pool-size:16}") int maxPoolSize,
+            @Value("${bank.async.queue-capacity:200}") int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("async-read-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // Keep the caller's read-your-writes routing and request start on the pool thread
+        executor.setTaskDecorator(task -> RequestStart.wrap(ReplicaRoutingContext.wrap(task)));
+        executor.initialize();
+    }
+
+    /**
+     * Runs {@code task} on the executor.
+     *
+     * @param task    the blocking call to run
+     * @param timeout time after which the returned future fails with a
+     *                {@link TimeoutException}
+     * @return the task result
+     * @throws java.util.concurrent.RejectedExecutionException if the pool and
+     *                                                         queue are full
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task, Duration timeout) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> run(task, future, submittedAt));
+        } catch (RuntimeException ex) {
+            rejected.increment();
+            throw ex;
+        }
+        submitted.increment();
+        future.whenComplete((result, ex) -> {
+            if (ex instanceof TimeoutException) {
+                timedOut.increment();
+            }
+        });
+        return future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private <T> void run(Supplier<T> task, CompletableFuture<T> future, long submittedAt) {
+        long startedAt = System.nanoTime();
+        record(queueWaitNanos, maxQueueWaitNanos, startedAt - submittedAt);
+        if (future.isDone()) {
+            skipped.increment();
+            return;
+        }
+        try {
+            future.complete(task.get());
+            completed.increment();
+        } catch (RuntimeException | Error ex) {
+            future.completeExceptionally(ex);
+            failed.increment();
+        } finally {
+            record(runNanos, maxRunNanos, System.nanoTime() - startedAt);
+        }
+    }
+
+    public AsyncExecutorMetricsResponse getMetrics() {
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        long started = completed.sum() + failed.sum();
+        long dequeued = started + skipped.sum();
+        return new AsyncExecutorMetricsResponse(
+                pool.getCorePoolSize(), pool.getMaximumPoolSize(), queueCapacity,
+                pool.getPoolSize(), pool.getActiveCount(), pool.getQueue().size(),
+                submitted.sum(), completed.sum(), failed.sum(), rejected.sum(), timedOut.sum(), skipped.sum(),
+                averageMillis(queueWaitNanos, dequeued), toMillis(maxQueueWaitNanos.get()),
+                averageMillis(runNanos, started), toMillis(maxRunNanos.get()));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static void record(LongAdder total, LongAccumulator max, long nanos) {
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    private static double averageMillis(LongAdder totalNanos, long count) {
+        return count == 0 ? 0 : toMillis(totalNanos.sum()) / count;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
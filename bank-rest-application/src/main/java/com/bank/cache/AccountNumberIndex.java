@@ -0,0 +1,89 @@
+package com.bank.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory index from account number to account id.
+ * Account numbers are reduced to a 64-bit hash and kept in a
+ * {@link LongLongHashMap}, so an entry costs 16 bytes and a lookup allocates
+ * nothing. Because two numbers may share a hash, and because entries are
+ * updated outside the transaction that changed the row, a hit is only a hint:
+ * callers must check the account number of the loaded account and report a
+ * mismatch with {@link #remove(String, long)}.
+ * <p>
+ * Reads are optimistic and lock-free in the common case; writes take an
+ * exclusive lock. Once {@code bank.account-number-index.max-entries} is
+ * reached new numbers are no longer indexed and fall back to the database.
+ */
+@Component
+public class AccountNumberIndex {
+
+    private final StampedLock lock = new StampedLock();
+    private final LongLongHashMap ids;
+    private final int maxEntries;
+
+    public AccountNumberIndex(@Value("${bank.account-number-index.max-entries:1000000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.ids = new LongLongHashMap(Math.min(maxEntries, 1024));
+    }
+
+    /**
+     * @return the indexed account id, or null if the number is not indexed
+     */
+    public Long get(String accountNumber) {
+        long key = key(accountNumber);
+        long stamp = lock.tryOptimisticRead();
+        long id = LongLongHashMap.get(ids.table(), key);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                id = ids.get(key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return id == 0 ? null : id;
+    }
+
+    public void put(String accountNumber, long accountId) {
+        long stamp = lock.writeLock();
+        try {
+            if (ids.size() < maxEntries || ids.get(key(accountNumber)) != 0) {
+                ids.put(key(accountNumber), accountId);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the entry for {@code accountNumber} if it still points at
+     * {@code accountId}, leaving a newer mapping untouched.
+     */
+    public void remove(String accountNumber, long accountId) {
+        long stamp = lock.writeLock();
+        try {
+            ids.remove(key(accountNumber), accountId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return ids.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static long key(String accountNumber) {
+        long hash = BloomFilter.hash(accountNumber);
+        // 0 marks an empty slot in the map
+        return hash == 0 ? 1 : hash;
+    }
+}
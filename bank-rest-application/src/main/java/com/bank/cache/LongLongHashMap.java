@@ -0,0 +1,151 @@
+package com.bank.cache;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from {@code long} keys to {@code long} values with
+ * linear probing and backward-shift deletion. Keys and values are stored
+ * interleaved in a single array, so there are no per-entry objects and a
+ * lookup touches one or two cache lines.
+ * <p>
+ * Key {@code 0} marks an empty slot and value {@code 0} means "absent", so
+ * neither may be stored. Not thread-safe: callers synchronize externally.
+ */
+public final class LongLongHashMap {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;
+    private int size;
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        this.table = new long[capacity * 2];
+    }
+
+    /**
+     * @return the value mapped to {@code key}, or {@code 0} if there is none
+     */
+    public long get(long key) {
+        return get(table, key);
+    }
+
+    /**
+     * Looks {@code key} up in the given table. Probing is bounded by the table
+     * size, so a lock-free reader racing a writer always terminates and can
+     * discard the result once it notices the race.
+     */
+    static long get(long[] table, long key) {
+        int mask = (table.length >> 1) - 1;
+        for (int slot = mix(key) & mask, probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+            long current = table[slot << 1];
+            if (current == key) {
+                return table[(slot << 1) + 1];
+            }
+            if (current == 0) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    public void put(long key, long value) {
+        checkKey(key);
+        if (value == 0) {
+            throw new IllegalArgumentException("Value 0 is reserved");
+        }
+        if ((size + 1) * 2 > table.length >> 1) {
+            resize(table.length);
+        }
+        int mask = (table.length >> 1) - 1;
+        int slot = mix(key) & mask;
+        while (table[slot << 1] != 0 && table[slot << 1] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (table[slot << 1] == 0) {
+            size++;
+        }
+        table[(slot << 1) + 1] = value;
+        table[slot << 1] = key;
+    }
+
+    /**
+     * Removes {@code key} only while it still maps to {@code expectedValue}.
+     *
+     * @return true if the entry was removed
+     */
+    public boolean remove(long key, long expectedValue) {
+        checkKey(key);
+        int mask = (table.length >> 1) - 1;
+        int slot = mix(key) & mask;
+        while (table[slot << 1] != key) {
+            if (table[slot << 1] == 0) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (table[(slot << 1) + 1] != expectedValue) {
+            return false;
+        }
+        // Shift later entries of the probe chain back so lookups never stop early
+        int gap = slot;
+        for (int next = (gap + 1) & mask; table[next << 1] != 0; next = (next + 1) & mask) {
+            int home = mix(table[next << 1]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table[(gap << 1) + 1] = table[(next << 1) + 1];
+                table[gap << 1] = table[next << 1];
+                gap = next;
+            }
+        }
+        table[gap << 1] = 0;
+        table[(gap << 1) + 1] = 0;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+        size = 0;
+    }
+
+    /**
+     * @return the backing array; only for lock-free readers that validate
+     *         their read afterwards
+     */
+    long[] table() {
+        return table;
+    }
+
+    private void resize(int newLength) {
+        long[] old = table;
+        long[] resized = new long[newLength * 2];
+        int mask = (resized.length >> 1) - 1;
+        for (int i = 0; i < old.length; i += 2) {
+            long key = old[i];
+            if (key != 0) {
+                int slot = mix(key) & mask;
+                while (resized[slot << 1] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                resized[slot << 1] = key;
+                resized[(slot << 1) + 1] = old[i + 1];
+            }
+        }
+        table = resized;
+    }
+
+    private static void checkKey(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
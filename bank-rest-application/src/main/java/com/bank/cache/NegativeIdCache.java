@@ -0,0 +1,54 @@
+package com.bank.cache;
+
+/**
+ * Bounded, time-limited set of ids known not to exist.
+ * Entries map an id to the {@link System#nanoTime()} at which they expire and
+ * are dropped lazily when found expired. When the cache is full it is
+ * cleared rather than tracking recency, which keeps every operation O(1) and
+ * allocation-free; a flood of distinct ids then costs at most one query per
+ * id per fill.
+ */
+public final class NegativeIdCache {
+
+    private final LongLongHashMap expiries;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public NegativeIdCache(long ttlNanos, int maxEntries) {
+        this.ttlNanos = ttlNanos;
+        this.maxEntries = maxEntries;
+        this.expiries = new LongLongHashMap(Math.min(maxEntries, 1024));
+    }
+
+    public synchronized boolean contains(long id) {
+        long expiry = expiries.get(id);
+        if (expiry == 0) {
+            return false;
+        }
+        if (expiry - System.nanoTime() > 0) {
+            return true;
+        }
+        expiries.remove(id, expiry);
+        return false;
+    }
+
+    public synchronized void add(long id) {
+        if (expiries.size() >= maxEntries) {
+            expiries.clear();
+        }
+        long expiry = System.nanoTime() + ttlNanos;
+        // 0 means "absent" in the map
+        expiries.put(id, expiry == 0 ? 1 : expiry);
+    }
+
+    public synchronized void remove(long id) {
+        long expiry = expiries.get(id);
+        if (expiry != 0) {
+            expiries.remove(id, expiry);
+        }
+    }
+
+    public synchronized int size() {
+        return expiries.size();
+    }
+}
@@ -0,0 +1,74 @@
+package com.bank.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Short-lived negative cache of user and account ids that were looked up and
+ * not found. Repeated lookups of such ids are answered without a query until
+ * the entry expires.
+ * <p>
+ * Creates forget the new id both immediately and after commit, so a lookup
+ * that raced the insert cannot keep the id marked missing once it is
+ * visible. Ids are never marked missing on delete; the first lookup after
+ * the delete commits does that.
+ */
+@Component
+public class NotFoundCache {
+
+    private final NegativeIdCache users;
+    private final NegativeIdCache accounts;
+
+    public NotFoundCache(@Value("${bank.negative-cache.ttl:PT5S}") Duration ttl,
+            @Value("${bank.negative-cache.max-entries:100000}") int maxEntries) {
+        this.users = new NegativeIdCache(ttl.toNanos(), maxEntries);
+        this.accounts = new NegativeIdCache(ttl.toNanos(), maxEntries);
+    }
+
+    public boolean isUserMissing(Long id) {
+        return id != null && users.contains(id);
+    }
+
+    public void markUserMissing(Long id) {
+        if (id != null) {
+            users.add(id);
+        }
+    }
+
+    public void forgetUser(Long id) {
+        forget(users, id);
+    }
+
+    public boolean isAccountMissing(Long id) {
+        return id != null && accounts.contains(id);
+    }
+
+    public void markAccountMissing(Long id) {
+        if (id != null) {
+            accounts.add(id);
+        }
+    }
+
+    public void forgetAccount(Long id) {
+        forget(accounts, id);
+    }
+
+    private static void forget(NegativeIdCache cache, Long id) {
+        if (id == null) {
+            return;
+        }
+        cache.remove(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.bank.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bank.repository.AccountRepository;
+import com.bank.repository.ArchivedAccountRepository;
+import com.bank.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filters of the normalized user emails and account numbers.
+ * Services consult them before running a uniqueness query: a negative answer
+ * proves the value is not taken, so the database is only queried on a
+ * possible hit. The unique constraints remain the final guard against
+ * concurrent inserts.
+ * <p>
+ * The filters are built from a streaming scan shortly after startup and
+ * rebuilt periodically, which also sheds the values of deleted rows. Until
+ * the first build completes every value is reported as a possible hit.
+ * Values are recorded once the writing transaction commits, so a rollback
+ * leaves nothing behind and a rebuild scan never races an uncommitted row;
+ * until then only the writing transaction's own checks see them.
+ */
+@Component
+public class UniquenessFilters {
+
+    private static final long MIN_EXPECTED_INSERTIONS = 100_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ArchivedAccountRepository archivedAccountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${bank.uniqueness-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private final RebuildableFilter emails = new RebuildableFilter();
+    private final RebuildableFilter accountNumbers = new RebuildableFilter();
+
+    public boolean mightContainEmail(String normalizedEmail) {
+        return emails.mightContain(normalizedEmail) || pendingValues(false).contains(emails, normalizedEmail);
+    }
+
+    public void recordEmail(String normalizedEmail) {
+        record(emails, normalizedEmail);
+    }
+
+    public boolean mightContainAccountNumber(String accountNumber) {
+        return accountNumbers.mightContain(accountNumber)
+                || pendingValues(false).contains(accountNumbers, accountNumber);
+    }
+
+    public void recordAccountNumber(String accountNumber) {
+        record(accountNumbers, accountNumber);
+    }
+
+    private void record(RebuildableFilter filter, String value) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingValues(true).add(filter, value);
+        } else {
+            filter.put(value);
+        }
+    }
+
+    /**
+     * The values recorded by the current transaction, which are still visible
+     * to its own uniqueness checks but only reach the filters on commit.
+     */
+    private PendingValues pendingValues(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return PendingValues.NONE;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingValues pending && pending.owner == this) {
+                return pending;
+            }
+        }
+        if (!create) {
+            return PendingValues.NONE;
+        }
+        PendingValues pending = new PendingValues(this);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private static final class PendingValues implements TransactionSynchronization {
+        static final PendingValues NONE = new PendingValues(null);
+
+        private final UniquenessFilters owner;
+        private final Map<RebuildableFilter, Set<String>> values = new IdentityHashMap<>();
+
+        PendingValues(UniquenessFilters owner) {
+            this.owner = owner;
+        }
+
+        void add(RebuildableFilter filter, String value) {
+            values.computeIfAbsent(filter, key -> new HashSet<>()).add(value);
+        }
+
+        boolean contains(RebuildableFilter filter, String value) {
+            Set<String> recorded = values.get(filter);
+            return recorded != null && recorded.contains(value);
+        }
+
+        @Override
+        public void afterCommit() {
+            values.forEach((filter, recorded) -> recorded.forEach(filter::put));
+        }
+    }
+
+    /**
+     * Rebuilds both filters from a streaming scan of the current values.
+     * Runs in the background right after startup and then periodically.
+     */
+    @Scheduled(initialDelayString = "${bank.uniqueness-filter.initial-delay:PT0S}",
+            fixedDelayString = "${bank.uniqueness-filter.rebuild-interval:PT1H}")
+    public void rebuild() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        emails.rebuild(userRepository.count(), filter -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> values = userRepository.streamAllEmails()) {
+                values.forEach(filter::put);
+            }
+        }));
+        // Account numbers of archived accounts stay reserved, so they stay in the filter
+        long accounts = accountRepository.count() + archivedAccountRepository.count();
+        accountNumbers.rebuild(accounts, filter -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> values = accountRepository.streamAllAccountNumbers()) {
+                values.forEach(filter::put);
+            }
+            try (Stream<String> values = archivedAccountRepository.streamAllAccountNumbers()) {
+                values.forEach(filter::put);
+            }
+        }));
+    }
+
+    /**
+     * A filter that can be replaced while writers keep recording values.
+     * Values recorded while a rebuild runs are kept aside and replayed into
+     * the new filter at the swap, so a value committed after the scan read
+     * its table is not lost. A lock rather than a monitor guards the swap,
+     * so a virtual thread recording a value never pins its carrier.
+     */
+    private final class RebuildableFilter {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ReentrantLock rebuildLock = new ReentrantLock();
+        private volatile BloomFilter current;
+        private List<String> recordedDuringRebuild;
+
+        boolean mightContain(String value) {
+            BloomFilter filter = current;
+            return filter == null || filter.mightContain(value);
+        }
+
+        void put(String value) {
+            lock.lock();
+            try {
+                if (recordedDuringRebuild != null) {
+                    recordedDuringRebuild.add(value);
+                }
+                if (current != null) {
+                    current.put(value);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void rebuild(long size, Consumer<BloomFilter> loader) {
+            BloomFilter candidate = new BloomFilter(Math.max(MIN_EXPECTED_INSERTIONS, size * 2), falsePositiveRate);
+            // A manual rebuild may overlap the scheduled one
+            rebuildLock.lock();
+            try {
+                lock.lock();
+                try {
+                    recordedDuringRebuild = new ArrayList<>();
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    loader.accept(candidate);
+                    lock.lock();
+                    try {
+                        recordedDuringRebuild.forEach(candidate::put);
+                        current = candidate;
+                    } finally {
+                        lock.unlock();
+                    }
+                } finally {
+                    lock.lock();
+                    try {
+                        recordedDuringRebuild = null;
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.bank.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.bank.allocation.AllocationInterceptor;
+import com.bank.latency.LatencyInterceptor;
+import com.bank.limit.ConcurrencyLimitInterceptor;
+
+/**
+ * Registers the endpoint latency and allocation histograms and the
+ * per-endpoint concurrency limits in front of the API controllers, unless
+ * {@code bank.latency.enabled}, {@code bank.allocations.enabled} or
+ * {@code bank.concurrency-limit.enabled} is false.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private LatencyInterceptor latencyInterceptor;
+
+    @Autowired
+    private AllocationInterceptor allocationInterceptor;
+
+    @Autowired
+    private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    @Value("${bank.latency.enabled:true}")
+    private boolean latencyEnabled;
+
+    @Value("${bank.allocations.enabled:true}")
+    private boolean allocationsEnabled;
+
+    @Value("${bank.concurrency-limit.enabled:true}")
+    private boolean concurrencyLimitEnabled;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Before the concurrency limit, so rejected requests are measured too
+        if (latencyEnabled) {
+            registry.addInterceptor(latencyInterceptor)
+                    .excludePathPatterns("/error", "/v3/api-docs/**", "/swagger-ui/**");
+        }
+        if (allocationsEnabled) {
+            registry.addInterceptor(allocationInterceptor)
+                    .excludePathPatterns("/error", "/v3/api-docs/**", "/swagger-ui/**");
+        }
+        if (concurrencyLimitEnabled) {
+            registry.addInterceptor(concurrencyLimitInterceptor)
+                    .excludePathPatterns("/error", "/v3/api-docs/**", "/swagger-ui/**");
+        }
+    }
+}
@@ -2,22 +2,38 @@ package com.bank.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.validation.annotation.Validated;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import com.bank.limit.ExpensiveEndpoint;
+import com.bank.service.AccountImportService;
 import com.bank.service.AccountService;
+import com.bank.service.AccountWriteCoordinator;
 import com.bank.dto.request.AddAuthorizedUserRequest;
+import com.bank.dto.request.BulkAuthorizedUsersRequest;
+import com.bank.dto.request.BulkDeleteRequest;
 import com.bank.dto.request.CreateAccountRequest;
 import com.bank.dto.request.UpdateAccountRequest;
 import com.bank.dto.request.UpdateBalanceRequest;
 import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.BulkAuthorizedUsersResponse;
+import com.bank.dto.response.BulkOperationResponse;
 import com.bank.dto.response.SuccessResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @RequestMapping("/accounts")
@@ -28,7 +44,14 @@ public class AccountController {
     @Autowired
     private AccountService accountService;
 
+    @Autowired
+    private AccountImportService accountImportService;
+
+    @Autowired
+    private AccountWriteCoordinator accountWriteCoordinator;
+
     @GetMapping
+    @ExpensiveEndpoint
     @Operation(summary = "Get all accounts")
     public ResponseEntity<List<AccountResponse>> getAllAccounts() {
         List<AccountResponse> accounts = accountService.findAll();
@@ -42,6 +65,13 @@ public class AccountController {
         return ResponseEntity.ok(account);
     }
 
+    @GetMapping("/by-number/{accountNumber}")
+    @Operation(summary = "Get account by account number")
+    public ResponseEntity<AccountResponse> getAccountByNumber(@PathVariable String accountNumber) {
+        AccountResponse account = accountService.findByAccountNumber(accountNumber);
+        return ResponseEntity.ok(account);
+    }
+
     @PostMapping
     @Operation(summary = "Create a new account")
     public ResponseEntity<AccountResponse> createAccount(@Valid @RequestBody CreateAccountRequest request) {
@@ -49,6 +79,21 @@ public class AccountController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdAccount);
     }
 
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.TEXT_PLAIN_VALUE })
+    @ExpensiveEndpoint
+    @Operation(summary = "Import accounts from a CSV stream",
+            description = "Each line holds accountNumber,balance,primaryUserEmail[,authorizedUserEmail...]. "
+                    + "The plain-text report is streamed back as chunks are committed.")
+    public void importAccounts(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            accountImportService.importAccounts(reader, response.getWriter());
+        }
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update account details")
     public ResponseEntity<AccountResponse> updateAccount(
@@ -62,8 +107,8 @@ public class AccountController {
     @Operation(summary = "Update account balance")
     public ResponseEntity<AccountResponse> updateBalance(
             @PathVariable Long id,
-            @Valid @RequestBody UpdateBalanceRequest request) {
-        AccountResponse updatedAccount = accountService.updateBalance(id, request.getBalance());
+            @Valid @RequestBody UpdateBalanceRequest request) throws TimeoutException {
+        AccountResponse updatedAccount = accountWriteCoordinator.updateBalance(id, request.getBalance());
         return ResponseEntity.ok(updatedAccount);
     }
 
@@ -83,10 +128,33 @@ public class AccountController {
         return ResponseEntity.ok(accountService.removeAuthorizedUser(id, userId));
     }
 
+    @PostMapping("/authorized-users/bulk")
+    @ExpensiveEndpoint
+    @Operation(summary = "Add authorized users to many accounts")
+    public ResponseEntity<BulkAuthorizedUsersResponse> addAuthorizedUsers(
+            @Valid @RequestBody BulkAuthorizedUsersRequest request) {
+        return ResponseEntity.ok(accountService.addAuthorizedUsers(request.getLinks()));
+    }
+
+    @PostMapping("/authorized-users/bulk-remove")
+    @ExpensiveEndpoint
+    @Operation(summary = "Remove authorized users from many accounts")
+    public ResponseEntity<BulkAuthorizedUsersResponse> removeAuthorizedUsers(
+            @Valid @RequestBody BulkAuthorizedUsersRequest request) {
+        return ResponseEntity.ok(accountService.removeAuthorizedUsers(request.getLinks()));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete account")
     public ResponseEntity<SuccessResponse> deleteAccount(@PathVariable Long id) {
         accountService.deleteAccount(id);
         return ResponseEntity.ok(SuccessResponse.of("Account deleted successfully"));
     }
+
+    @PostMapping("/bulk-delete")
+    @ExpensiveEndpoint
+    @Operation(summary = "Delete zero-balance accounts in bulk")
+    public ResponseEntity<BulkOperationResponse> deleteAccounts(@Valid @RequestBody BulkDeleteRequest request) {
+        return ResponseEntity.ok(accountService.deleteAccounts(request.getIds()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.bank.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.bank.async.AsyncReadExecutor;
+import com.bank.dto.response.AccountMetricsResponse;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.UserBalanceResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.exception.ErrorMessages;
+import com.bank.limit.ExpensiveEndpoint;
+import com.bank.service.AccountService;
+import com.bank.service.UserService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous variants of the hot read endpoints.
+ * The database work runs on {@link AsyncReadExecutor}, so the container
+ * thread is released while it waits. The optional {@value #TIMEOUT_HEADER}
+ * header sets a per-request timeout in milliseconds, capped at
+ * {@code bank.async.max-timeout}; timed-out and rejected requests get 503.
+ */
+@RestController
+@RequestMapping("/async")
+@Tag(name = "Async reads", description = "Read operations served from a bounded executor")
+public class AsyncReadController {
+
+    static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AsyncReadExecutor asyncReadExecutor;
+
+    @Value("${bank.async.default-timeout:PT5S}")
+    private Duration defaultTimeout;
+
+    @Value("${bank.async.max-timeout:PT30S}")
+    private Duration maxTimeout;
+
+    @GetMapping("/users/{id}")
+    @Operation(summary = "Get user by ID asynchronously")
+    public CompletableFuture<ResponseEntity<UserResponse>> getUserById(@PathVariable Long id,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMs) {
+        return supply(() -> userService.findById(id), timeoutMs);
+    }
+
+    @GetMapping("/users/{id}/balance")
+    @Operation(summary = "Get user's total balance asynchronously")
+    public CompletableFuture<ResponseEntity<UserBalanceResponse>> getUserBalance(@PathVariable Long id,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMs) {
+        return supply(() -> userService.getUserBalance(id), timeoutMs);
+    }
+
+    @GetMapping("/accounts")
+    @ExpensiveEndpoint
+    @Operation(summary = "Get all accounts asynchronously")
+    public CompletableFuture<ResponseEntity<List<AccountResponse>>> getAllAccounts(
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMs) {
+        return supply(() -> accountService.findAll(), timeoutMs);
+    }
+
+    @GetMapping("/accounts/{id}")
+    @Operation(summary = "Get account by ID asynchronously")
+    public CompletableFuture<ResponseEntity<AccountResponse>> getAccountById(@PathVariable Long id,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMs) {
+        return supply(() -> accountService.findById(id), timeoutMs);
+    }
+
+    @GetMapping("/accounts/by-number/{accountNumber}")
+    @Operation(summary = "Get account by account number asynchronously")
+    public CompletableFuture<ResponseEntity<AccountResponse>> getAccountByNumber(@PathVariable String accountNumber,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMs) {
+        return supply(() -> accountService.findByAccountNumber(accountNumber), timeoutMs);
+    }
+
+    @GetMapping("/metrics/accounts")
+    @ExpensiveEndpoint
+    @Operation(summary = "Get account metrics by balance asynchronously")
+    public CompletableFuture<ResponseEntity<AccountMetricsResponse>> getAccountMetrics(
+            @RequestParam(required = false) BigDecimal greaterThan,
+            @RequestParam(required = false) BigDecimal lessThan,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMs) {
+
+        if (greaterThan == null && lessThan == null) {
+            throw new IllegalArgumentException(ErrorMessages.METRICS_PARAMETERS_REQUIRED);
+        }
+        return supply(() -> accountService.getAccountMetrics(greaterThan, lessThan), timeoutMs);
+    }
+
+    private <T> CompletableFuture<ResponseEntity<T>> supply(Supplier<T> read, Long timeoutMs) {
+        return asyncReadExecutor.supply(read, timeout(timeoutMs)).thenApply(ResponseEntity::ok);
+    }
+
+    private Duration timeout(Long timeoutMs) {
+        if (timeoutMs == null) {
+            return defaultTimeout;
+        }
+        if (timeoutMs <= 0) {
+            throw new IllegalArgumentException(ErrorMessages.REQUEST_TIMEOUT_INVALID);
+        }
+        Duration requested = Duration.ofMillis(timeoutMs);
+        return requested.compareTo(maxTimeout) > 0 ? maxTimeout : requested;
+    }
+}
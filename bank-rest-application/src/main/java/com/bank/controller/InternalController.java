@@ -0,0 +1,52 @@
+package com.bank.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bank.allocation.AllocationRecorder;
+import com.bank.dto.response.AllocationResponse;
+import com.bank.dto.response.LatencyResponse;
+import com.bank.latency.OperationLatencyRecorder;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.io.ByteArrayOutputStream;
+
+@RestController
+@RequestMapping("/internal")
+@Tag(name = "Internal", description = "Operational diagnostics")
+public class InternalController {
+
+    @Autowired
+    private OperationLatencyRecorder latencyRecorder;
+
+    @Autowired
+    private AllocationRecorder allocationRecorder;
+
+    @GetMapping("/latency")
+    @Operation(summary = "Get latency percentiles of every endpoint and service method")
+    public ResponseEntity<LatencyResponse> getLatency() {
+        return ResponseEntity.ok(latencyRecorder.getLatency());
+    }
+
+    @GetMapping(value = "/latency/histograms", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "Get the latency histograms in HdrHistogram log format, to merge across nodes")
+    public ResponseEntity<byte[]> getLatencyHistograms(
+            @RequestParam(defaultValue = "false") boolean total) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        latencyRecorder.writeLog(out, total);
+        return ResponseEntity.ok(out.toByteArray());
+    }
+
+    @GetMapping("/allocations")
+    @Operation(summary = "Get the bytes allocated per request by every endpoint")
+    public ResponseEntity<AllocationResponse> getAllocations() {
+        return ResponseEntity.ok(allocationRecorder.getAllocations());
+    }
+}
@@ -0,0 +1,92 @@
+package com.bank.controller;
+
+import org.springframework.web.bind.annotation.*;
+import com.bank.async.AsyncReadExecutor;
+import com.bank.limit.ConcurrencyLimitInterceptor;
+import com.bank.limit.ExpensiveEndpoint;
+import com.bank.pool.ConnectionPoolMetrics;
+import com.bank.service.AccountService;
+import com.bank.service.CacheMetricsService;
+import com.bank.singleflight.SingleFlightAspect;
+import com.bank.dto.response.AccountMetricsResponse;
+import com.bank.dto.response.AsyncExecutorMetricsResponse;
+import com.bank.dto.response.CacheMetricsResponse;
+import com.bank.dto.response.ConcurrencyLimitMetricsResponse;
+import com.bank.dto.response.ConnectionPoolMetricsResponse;
+import com.bank.dto.response.SingleFlightMetricsResponse;
+import com.bank.exception.ErrorMessages;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+
+@RestController
+@RequestMapping("/metrics")
+@Tag(name = "Metrics", description = "Account metrics operations")
+public class MetricsController {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private CacheMetricsService cacheMetricsService;
+
+    @Autowired
+    private AsyncReadExecutor asyncReadExecutor;
+
+    @Autowired
+    private SingleFlightAspect singleFlightAspect;
+
+    @Autowired
+    private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    @Autowired
+    private ConnectionPoolMetrics connectionPoolMetrics;
+
+    @GetMapping("/accounts")
+    @ExpensiveEndpoint
+    @Operation(summary = "Get account metrics by balance")
+    public ResponseEntity<AccountMetricsResponse> getAccountMetrics(
+            @RequestParam(required = false) BigDecimal greaterThan,
+            @RequestParam(required = false) BigDecimal lessThan) {
+
+        if (greaterThan == null && lessThan == null) {
+            throw new IllegalArgumentException(ErrorMessages.METRICS_PARAMETERS_REQUIRED);
+        }
+        AccountMetricsResponse metrics = accountService.getAccountMetrics(greaterThan, lessThan);
+        return ResponseEntity.ok(metrics);
+    }
+
+    @GetMapping("/cache")
+    @Operation(summary = "Get second-level cache statistics")
+    public ResponseEntity<CacheMetricsResponse> getCacheMetrics() {
+        return ResponseEntity.ok(cacheMetricsService.getCacheMetrics());
+    }
+
+    @GetMapping("/async-executor")
+    @Operation(summary = "Get statistics of the executor behind the /async endpoints")
+    public ResponseEntity<AsyncExecutorMetricsResponse> getAsyncExecutorMetrics() {
+        return ResponseEntity.ok(asyncReadExecutor.getMetrics());
+    }
+
+    @GetMapping("/single-flight")
+    @Operation(summary = "Get statistics of coalesced concurrent reads")
+    public ResponseEntity<SingleFlightMetricsResponse> getSingleFlightMetrics() {
+        return ResponseEntity.ok(singleFlightAspect.getMetrics());
+    }
+
+    @GetMapping("/concurrency-limits")
+    @Operation(summary = "Get the adaptive concurrency limit of each endpoint")
+    public ResponseEntity<ConcurrencyLimitMetricsResponse> getConcurrencyLimitMetrics() {
+        return ResponseEntity.ok(concurrencyLimitInterceptor.getMetrics());
+    }
+
+    @GetMapping("/connection-pool")
+    @Operation(summary = "Get connection pool state and connection wait / hold times per pool and service method")
+    public ResponseEntity<ConnectionPoolMetricsResponse> getConnectionPoolMetrics() {
+        return ResponseEntity.ok(connectionPoolMetrics.getMetrics());
+    }
+}
@@ -0,0 +1,97 @@
+package com.bank.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import jakarta.validation.Valid;
+
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.UpdateBalanceRequest;
+import com.bank.dto.response.AccountMetricsResponse;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.SuccessResponse;
+import com.bank.dto.response.UserBalanceResponse;
+import com.bank.exception.ErrorMessages;
+import com.bank.limit.ExpensiveEndpoint;
+import com.bank.sharding.ShardedAccountService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Account endpoints backed by the sharded account databases, available when
+ * {@code bank.sharding.enabled} is true.
+ */
+@RestController
+@RequestMapping("/sharded")
+@ConditionalOnProperty(name = "bank.sharding.enabled", havingValue = "true")
+@Tag(name = "Sharded accounts", description = "Account operations on hash-sharded storage")
+public class ShardedAccountController {
+
+    @Autowired
+    private ShardedAccountService shardedAccountService;
+
+    @GetMapping("/accounts")
+    @ExpensiveEndpoint
+    @Operation(summary = "Get all accounts of every shard")
+    public ResponseEntity<List<AccountResponse>> getAllAccounts() {
+        return ResponseEntity.ok(shardedAccountService.findAll());
+    }
+
+    @GetMapping("/accounts/{id}")
+    @Operation(summary = "Get account by ID from its shard")
+    public ResponseEntity<AccountResponse> getAccountById(@PathVariable Long id) {
+        return ResponseEntity.ok(shardedAccountService.findById(id));
+    }
+
+    @GetMapping("/accounts/by-number/{accountNumber}")
+    @Operation(summary = "Get account by account number from its shard")
+    public ResponseEntity<AccountResponse> getAccountByNumber(@PathVariable String accountNumber) {
+        return ResponseEntity.ok(shardedAccountService.findByAccountNumber(accountNumber));
+    }
+
+    @PostMapping("/accounts")
+    @Operation(summary = "Create a new account on the shard of its number")
+    public ResponseEntity<AccountResponse> createAccount(@Valid @RequestBody CreateAccountRequest request) {
+        AccountResponse createdAccount = shardedAccountService.createAccount(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdAccount);
+    }
+
+    @PatchMapping("/accounts/{id}/balance")
+    @Operation(summary = "Update account balance")
+    public ResponseEntity<AccountResponse> updateBalance(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateBalanceRequest request) {
+        return ResponseEntity.ok(shardedAccountService.updateBalance(id, request.getBalance()));
+    }
+
+    @DeleteMapping("/accounts/{id}")
+    @Operation(summary = "Delete account")
+    public ResponseEntity<SuccessResponse> deleteAccount(@PathVariable Long id) {
+        shardedAccountService.deleteAccount(id);
+        return ResponseEntity.ok(SuccessResponse.of("Account deleted successfully"));
+    }
+
+    @GetMapping("/users/{id}/balance")
+    @Operation(summary = "Get user's total balance across all shards")
+    public ResponseEntity<UserBalanceResponse> getUserBalance(@PathVariable Long id) {
+        return ResponseEntity.ok(shardedAccountService.getUserBalance(id));
+    }
+
+    @GetMapping("/metrics/accounts")
+    @ExpensiveEndpoint
+    @Operation(summary = "Get account metrics by balance across all shards")
+    public ResponseEntity<AccountMetricsResponse> getAccountMetrics(
+            @RequestParam(required = false) BigDecimal greaterThan,
+            @RequestParam(required = false) BigDecimal lessThan) {
+        if (greaterThan == null && lessThan == null) {
+            throw new IllegalArgumentException(ErrorMessages.METRICS_PARAMETERS_REQUIRED);
+        }
+        return ResponseEntity.ok(shardedAccountService.getAccountMetrics(greaterThan, lessThan));
+    }
+}
@@ -7,10 +7,14 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.validation.annotation.Validated;
 import jakarta.validation.Valid;
 
+import com.bank.limit.ExpensiveEndpoint;
 import com.bank.service.UserService;
 import com.bank.dto.response.UserBalanceResponse;
+import com.bank.dto.request.BulkCreateUsersRequest;
+import com.bank.dto.request.BulkDeleteRequest;
 import com.bank.dto.request.CreateUserRequest;
 import com.bank.dto.request.UpdateUserRequest;
+import com.bank.dto.response.BulkOperationResponse;
 import com.bank.dto.response.SuccessResponse;
 import com.bank.dto.response.UserResponse;
 
@@ -28,6 +32,7 @@ public class UserController {
     private UserService userService;
 
     @GetMapping
+    @ExpensiveEndpoint
     @Operation(summary = "Get all users")
     public ResponseEntity<List<UserResponse>> getAllUsers() {
         List<UserResponse> users = userService.findAll();
@@ -48,6 +53,22 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
     }
 
+    @PostMapping("/bulk")
+    @ExpensiveEndpoint
+    @Operation(summary = "Create users in bulk")
+    public ResponseEntity<BulkOperationResponse> createUsers(@Valid @RequestBody BulkCreateUsersRequest request) {
+        BulkOperationResponse result = userService.createUsers(request.getUsers());
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/bulk-delete")
+    @ExpensiveEndpoint
+    @Operation(summary = "Delete users without accounts in bulk")
+    public ResponseEntity<BulkOperationResponse> deleteUsers(@Valid @RequestBody BulkDeleteRequest request) {
+        BulkOperationResponse result = userService.deleteUsers(request.getIds());
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update user")
     public ResponseEntity<UserResponse> updateUser(
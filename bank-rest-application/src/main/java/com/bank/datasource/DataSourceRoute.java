@@ -0,0 +1,8 @@
+package com.bank.datasource;
+
+/**
+ * Target of a connection handed out by {@link ReadWriteRoutingDataSource}.
+ */
+public enum DataSourceRoute {
+    PRIMARY, REPLICA
+}
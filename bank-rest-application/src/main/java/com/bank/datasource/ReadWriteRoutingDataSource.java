@@ -0,0 +1,43 @@
+package com.bank.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything
+ * else to the primary. Read-only transactions still go to the primary while
+ * {@link ReplicaRoutingContext#isPrimaryRequired()} is set.
+ * <p>
+ * The route is decided when a connection is requested, so this data source
+ * must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager asks for a connection before the read-only flag of
+ * the new transaction is visible, and the proxy defers that until the first
+ * statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder replicaConnections = new LongAdder();
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReplicaRoutingContext.isPrimaryRequired()) {
+            replicaConnections.increment();
+            return DataSourceRoute.REPLICA;
+        }
+        primaryConnections.increment();
+        return DataSourceRoute.PRIMARY;
+    }
+
+    public long getPrimaryConnections() {
+        return primaryConnections.sum();
+    }
+
+    public long getReplicaConnections() {
+        return replicaConnections.sum();
+    }
+}
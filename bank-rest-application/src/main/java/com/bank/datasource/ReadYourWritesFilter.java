@@ -0,0 +1,92 @@
+package com.bank.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.bank.cache.NegativeIdCache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Read-your-writes window for clients that send a session header.
+ * <p>
+ * While a POST, PUT, PATCH or DELETE runs and for
+ * {@code bank.replica.read-your-writes-window} after it succeeds, the
+ * read-only transactions of the same session run on the primary, so the
+ * client never reads replica data older than its own write. A failed write
+ * drops the mark unless an earlier write had set it. Requests without the header always
+ * read from the replica.
+ * <p>
+ * Sessions are tracked by a 64-bit hash in a bounded time-limited set. A
+ * collision only sends another session to the primary as well.
+ */
+@Component
+@ConditionalOnProperty(name = "bank.replica.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String SESSION_HEADER = "X-Session-Id";
+
+    private final NegativeIdCache recentWriters;
+
+    public ReadYourWritesFilter(@Value("${bank.replica.read-your-writes-window:PT5S}") Duration window,
+            @Value("${bank.replica.max-sessions:100000}") int maxSessions) {
+        this.recentWriters = new NegativeIdCache(window.toNanos(), maxSessions);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String session = request.getHeader(SESSION_HEADER);
+        if (session == null || session.isBlank()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long key = key(session);
+        boolean recentWriter = recentWriters.contains(key);
+        if (recentWriter) {
+            ReplicaRoutingContext.requirePrimary();
+        }
+        boolean write = isWrite(request.getMethod());
+        if (write) {
+            // Mark before the write commits, so a concurrent read of the session cannot miss it
+            recentWriters.add(key);
+        }
+        boolean succeeded = false;
+        try {
+            chain.doFilter(request, response);
+            succeeded = response.getStatus() < 400;
+        } finally {
+            ReplicaRoutingContext.clear();
+            if (write) {
+                if (succeeded) {
+                    // Restart the window from the commit
+                    recentWriters.add(key);
+                } else if (!recentWriter) {
+                    recentWriters.remove(key);
+                }
+            }
+        }
+    }
+
+    private static boolean isWrite(String method) {
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+
+    private static long key(String session) {
+        // FNV-1a; 0 marks an empty slot in the set
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < session.length(); i++) {
+            hash ^= session.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+}
@@ -0,0 +1,51 @@
+package com.bank.datasource;
+
+/**
+ * Per-thread override that keeps read-only transactions on the primary, used
+ * to give a client that just wrote a read-your-writes window.
+ * <p>
+ * The flag is thread-bound: work handed to another thread must be wrapped
+ * with {@link #wrap(Runnable)} to keep it.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    /**
+     * @return {@code task} running with the calling thread's routing override
+     */
+    public static Runnable wrap(Runnable task) {
+        boolean primaryRequired = isPrimaryRequired();
+        if (!primaryRequired) {
+            return task;
+        }
+        return () -> {
+            Boolean previous = PRIMARY_REQUIRED.get();
+            PRIMARY_REQUIRED.set(Boolean.TRUE);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    PRIMARY_REQUIRED.remove();
+                } else {
+                    PRIMARY_REQUIRED.set(previous);
+                }
+            }
+        };
+    }
+}
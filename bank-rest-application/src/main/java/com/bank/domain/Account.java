@@ -1,9 +1,13 @@
 package com.bank.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Set;
 
 import com.bank.exception.ErrorMessages;
@@ -11,10 +15,15 @@ import com.bank.exception.ErrorMessages;
 import java.util.HashSet;
 
 @Entity
-@Table(name = "accounts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "accounts")
+@Table(name = "accounts", indexes = {
+        @Index(name = "idx_accounts_balance_activity", columnList = "balance, last_activity_at")
+})
 public class Account {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accounts_seq")
+    @SequenceGenerator(name = "accounts_seq", sequenceName = "accounts_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = ErrorMessages.ACCOUNT_NUMBER_REQUIRED)
@@ -25,6 +34,12 @@ public class Account {
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal balance;
 
+    // Set on every insert and update; dormant zero-balance accounts are moved to the archive
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "last_activity_at", nullable = false)
+    private Instant lastActivityAt;
+
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account-account-users")
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<AccountUser> accountUsers = new HashSet<>();
 
@@ -63,6 +78,20 @@ public class Account {
         this.balance = balance;
     }
 
+    public Instant getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public void setLastActivityAt(Instant lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void recordActivity() {
+        lastActivityAt = Instant.now();
+    }
+
     public Set<AccountUser> getAccountUsers() {
         return accountUsers;
     }
@@ -2,15 +2,22 @@ package com.bank.domain;
 
 import java.util.Objects;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account-users")
 @Table(name = "account_users", uniqueConstraints = {
-        @UniqueConstraint(columnNames = { "account_id", "user_id" })
+        @UniqueConstraint(name = "uk_account_users_account_user", columnNames = { "account_id", "user_id" })
+}, indexes = {
+        @Index(name = "idx_account_users_user_id", columnList = "user_id")
 })
 public class AccountUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_users_seq")
+    @SequenceGenerator(name = "account_users_seq", sequenceName = "account_users_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
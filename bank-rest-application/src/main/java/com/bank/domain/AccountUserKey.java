@@ -0,0 +1,42 @@
+package com.bank.domain;
+
+import java.util.Objects;
+
+/**
+ * Identifies an account-user association by its account and user ids, without
+ * loading either entity. Used by the set-based bulk statements.
+ */
+public final class AccountUserKey {
+
+    private final Long accountId;
+    private final Long userId;
+
+    public AccountUserKey(Long accountId, Long userId) {
+        this.accountId = accountId;
+        this.userId = userId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof AccountUserKey))
+            return false;
+        AccountUserKey that = (AccountUserKey) o;
+        return Objects.equals(accountId, that.accountId) &&
+                Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountId, userId);
+    }
+}
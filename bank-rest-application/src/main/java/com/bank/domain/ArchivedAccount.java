@@ -0,0 +1,64 @@
+package com.bank.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A dormant account moved out of {@code accounts} by the archival job. Rows
+ * keep the id and account number they had, are written once by a set-based
+ * copy and never updated.
+ */
+@Entity
+@Immutable
+@Table(name = "archived_accounts")
+public class ArchivedAccount {
+    @Id
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String accountNumber;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "last_activity_at", nullable = false)
+    private Instant lastActivityAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    @OneToMany(mappedBy = "account", fetch = FetchType.LAZY)
+    private Set<ArchivedAccountUser> accountUsers = new HashSet<>();
+
+    public ArchivedAccount() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public Instant getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+
+    public Set<ArchivedAccountUser> getAccountUsers() {
+        return accountUsers;
+    }
+}
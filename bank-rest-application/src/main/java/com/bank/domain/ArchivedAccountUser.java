@@ -0,0 +1,51 @@
+package com.bank.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * An association of an archived account, copied from {@code account_users}
+ * with its original id. The user stays in {@code users}.
+ */
+@Entity
+@Immutable
+@Table(name = "archived_account_users", indexes = {
+        @Index(name = "idx_archived_account_users_account_id", columnList = "account_id"),
+        @Index(name = "idx_archived_account_users_user_id", columnList = "user_id")
+})
+public class ArchivedAccountUser {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private ArchivedAccount account;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AccountUserRole role;
+
+    public ArchivedAccountUser() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public ArchivedAccount getAccount() {
+        return account;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public AccountUserRole getRole() {
+        return role;
+    }
+}
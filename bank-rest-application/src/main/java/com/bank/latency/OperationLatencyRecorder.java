@@ -0,0 +1,130 @@
+package com.bank.latency;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bank.dto.response.LatencyResponse;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency distributions of every controller mapping and every public
+ * {@code AccountService} / {@code UserService} method.
+ * <p>
+ * Each operation records into an HdrHistogram {@link Recorder}, which writers
+ * update without locks. Every {@code bank.latency.interval} the recorders are
+ * rolled over: the interval just completed replaces the previous one and is
+ * added to the distribution since startup. Both are reported with full
+ * percentiles, and can be exported in the HdrHistogram log format so the
+ * histograms of several nodes can be merged without losing the tail.
+ */
+@Component
+public class OperationLatencyRecorder {
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+    private final int significantDigits;
+    private final long startMillis = System.currentTimeMillis();
+
+    public OperationLatencyRecorder(@Value("${bank.latency.significant-digits:3}") int significantDigits) {
+        this.significantDigits = significantDigits;
+    }
+
+    public void record(String operation, long nanos) {
+        operations.computeIfAbsent(operation, Operation::new).recorder.recordValue(Math.max(0, nanos));
+    }
+
+    /**
+     * Completes the current interval of every operation.
+     */
+    @Scheduled(initialDelayString = "${bank.latency.interval:PT60S}",
+            fixedDelayString = "${bank.latency.interval:PT60S}")
+    public void rollover() {
+        long now = System.currentTimeMillis();
+        for (Operation operation : operations.values()) {
+            operation.rollover(now);
+        }
+    }
+
+    public LatencyResponse getLatency() {
+        List<LatencyResponse.OperationLatency> result = new ArrayList<>();
+        for (Operation operation : operations.values()) {
+            synchronized (operation) {
+                result.add(new LatencyResponse.OperationLatency(operation.name,
+                        distribution(operation.lastInterval), distribution(operation.total)));
+            }
+        }
+        result.sort(Comparator.comparing(LatencyResponse.OperationLatency::getOperation));
+        return new LatencyResponse(result);
+    }
+
+    /**
+     * Writes one compressed histogram per operation, tagged with the operation
+     * name (spaces replaced by underscores), in the HdrHistogram log format.
+     *
+     * @param total whether to write the distributions since startup instead of
+     *              the last completed interval
+     */
+    public void writeLog(OutputStream out, boolean total) {
+        HistogramLogWriter writer = new HistogramLogWriter(out);
+        writer.outputLogFormatVersion();
+        writer.outputStartTime(startMillis);
+        writer.setBaseTime(startMillis);
+        writer.outputLegend();
+        List<Operation> sorted = new ArrayList<>(operations.values());
+        sorted.sort(Comparator.comparing(operation -> operation.name));
+        for (Operation operation : sorted) {
+            Histogram histogram;
+            synchronized (operation) {
+                histogram = (total ? operation.total : operation.lastInterval).copy();
+            }
+            histogram.setTag(operation.name.replace(' ', '_'));
+            writer.outputIntervalHistogram(histogram);
+        }
+        writer.close();
+    }
+
+    private static LatencyResponse.Distribution distribution(Histogram histogram) {
+        return new LatencyResponse.Distribution(histogram.getTotalCount(), histogram.getMean() / 1e6,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                millis(histogram, 99.99), histogram.getMaxValue() / 1e6);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    private final class Operation {
+
+        private final String name;
+        private final Recorder recorder = new Recorder(significantDigits);
+        private final Histogram total = new Histogram(significantDigits);
+        private Histogram lastInterval = new Histogram(significantDigits);
+        private Histogram recycled;
+        private long intervalStartMillis = System.currentTimeMillis();
+
+        private Operation(String name) {
+            this.name = name;
+            total.setStartTimeStamp(intervalStartMillis);
+        }
+
+        private synchronized void rollover(long now) {
+            recycled = recorder.getIntervalHistogram(recycled);
+            Histogram completed = recycled.copy();
+            completed.setStartTimeStamp(intervalStartMillis);
+            completed.setEndTimeStamp(now);
+            total.add(completed);
+            total.setEndTimeStamp(now);
+            lastInterval = completed;
+            intervalStartMillis = now;
+        }
+    }
+}
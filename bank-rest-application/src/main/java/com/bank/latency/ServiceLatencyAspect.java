@@ -0,0 +1,42 @@
+package com.bank.latency;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the latency of the public methods of {@code AccountService} and
+ * {@code UserService}, including their transaction.
+ * <p>
+ * Ordered inside {@code SingleFlightAspect}: a coalesced call is recorded once,
+ * by the caller that executed it. The time the other callers waited shows in
+ * the latency of their endpoints.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "bank.latency.enabled", havingValue = "true", matchIfMissing = true)
+public class ServiceLatencyAspect {
+
+    private final OperationLatencyRecorder latencyRecorder;
+
+    public ServiceLatencyAspect(OperationLatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @Around("execution(public * com.bank.service.AccountService.*(..))"
+            + " || execution(public * com.bank.service.UserService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            latencyRecorder.record(joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                    + joinPoint.getSignature().getName(), System.nanoTime() - start);
+        }
+    }
+}
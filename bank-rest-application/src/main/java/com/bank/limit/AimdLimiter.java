@@ -0,0 +1,105 @@
+package com.bank.limit;
+
+/**
+ * Concurrency limit adjusted by additive increase, multiplicative decrease.
+ * <p>
+ * A request is admitted while fewer than {@link #getLimit()} requests are in
+ * flight. Each request that completes within the latency threshold while the
+ * limit is at least half used raises the limit by {@code 1 / limit}, i.e. by
+ * about one per round of requests. A slower or failed request multiplies the
+ * limit by the backoff ratio, but only if it started after the previous decrease:
+ * requests admitted under the old limit do not shrink it again.
+ * <p>
+ * All methods are short and never block inside the monitor.
+ */
+public final class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+    private long accepted;
+    private long rejected;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos,
+            double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    /**
+     * @return true if the request is admitted; it must then be reported with
+     *         {@link #release(long, long, boolean)}
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            rejected++;
+            return false;
+        }
+        inFlight++;
+        accepted++;
+        return true;
+    }
+
+    /**
+     * Reports the completion of an admitted request.
+     *
+     * @param startNanos {@link System#nanoTime()} when the request was admitted
+     * @param endNanos   {@link System#nanoTime()} when it completed
+     */
+    public void release(long startNanos, long endNanos) {
+        release(startNanos, endNanos, false);
+    }
+
+    /**
+     * Reports the completion of an admitted request.
+     *
+     * @param startNanos {@link System#nanoTime()} when the request was admitted
+     * @param endNanos   {@link System#nanoTime()} when it completed
+     * @param failed     whether it failed on the server side (an exception or
+     *                   a 5xx status), which is treated as congestion whatever
+     *                   its latency
+     */
+    public synchronized void release(long startNanos, long endNanos, boolean failed) {
+        int used = inFlight;
+        inFlight--;
+        if (failed || endNanos - startNanos > latencyThresholdNanos) {
+            if (startNanos - lastDecreaseNanos > 0) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = endNanos;
+            }
+        } else if (used * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized long getAccepted() {
+        return accepted;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+}
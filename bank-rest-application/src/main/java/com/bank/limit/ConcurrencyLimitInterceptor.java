@@ -0,0 +1,120 @@
+package com.bank.limit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.bank.dto.response.ConcurrencyLimitMetricsResponse;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Admission control in front of every controller mapping.
+ * <p>
+ * Each handler method has its own {@link AimdLimiter}, so a burst on one
+ * endpoint cannot use up the capacity of another. Methods marked
+ * {@link ExpensiveEndpoint} start from, and stay within, much smaller limits
+ * than primary-key reads. A request over its endpoint's limit is rejected
+ * before the handler runs with {@code 503} and {@code Retry-After}, instead of
+ * waiting for a thread or a connection behind requests that are already slow.
+ * A request that ends with an exception or a {@code 5xx} status counts as a
+ * congestion signal, like a slow one.
+ * <p>
+ * Asynchronous handlers keep their permit until the async dispatch completes.
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".PERMIT";
+
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Tier standard;
+    private final Tier expensive;
+
+    public ConcurrencyLimitInterceptor(
+            @Value("${bank.concurrency-limit.standard.initial-limit:200}") int standardInitialLimit,
+            @Value("${bank.concurrency-limit.standard.min-limit:20}") int standardMinLimit,
+            @Value("${bank.concurrency-limit.standard.max-limit:1000}") int standardMaxLimit,
+            @Value("${bank.concurrency-limit.standard.latency-threshold:PT0.25S}") Duration standardThreshold,
+            @Value("${bank.concurrency-limit.expensive.initial-limit:8}") int expensiveInitialLimit,
+            @Value("${bank.concurrency-limit.expensive.min-limit:1}") int expensiveMinLimit,
+            @Value("${bank.concurrency-limit.expensive.max-limit:32}") int expensiveMaxLimit,
+            @Value("${bank.concurrency-limit.expensive.latency-threshold:PT2S}") Duration expensiveThreshold,
+            @Value("${bank.concurrency-limit.backoff-ratio:0.9}") double backoffRatio) {
+        this.standard = new Tier("standard", standardInitialLimit, standardMinLimit, standardMaxLimit,
+                standardThreshold, backoffRatio);
+        this.expensive = new Tier("expensive", expensiveInitialLimit, expensiveMinLimit, expensiveMaxLimit,
+                expensiveThreshold, backoffRatio);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // An async dispatch continues a request admitted on its first dispatch
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        Endpoint endpoint = endpoints.computeIfAbsent(handlerMethod.getMethod(),
+                method -> newEndpoint(request, handlerMethod));
+        if (!endpoint.limiter.tryAcquire()) {
+            throw new RejectedExecutionException("Concurrency limit reached for " + endpoint.name);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(endpoint.limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof Permit admitted) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            boolean failed = ex != null || response.getStatus() >= 500;
+            admitted.limiter.release(admitted.startNanos, System.nanoTime(), failed);
+        }
+    }
+
+    public ConcurrencyLimitMetricsResponse getMetrics() {
+        List<ConcurrencyLimitMetricsResponse.EndpointMetrics> metrics = new ArrayList<>();
+        for (Endpoint endpoint : endpoints.values()) {
+            metrics.add(new ConcurrencyLimitMetricsResponse.EndpointMetrics(endpoint.name, endpoint.tier,
+                    endpoint.limiter.getLimit(), endpoint.limiter.getInFlight(),
+                    endpoint.limiter.getAccepted(), endpoint.limiter.getRejected()));
+        }
+        metrics.sort(Comparator.comparing(ConcurrencyLimitMetricsResponse.EndpointMetrics::getEndpoint));
+        return new ConcurrencyLimitMetricsResponse(metrics);
+    }
+
+    private Endpoint newEndpoint(HttpServletRequest request, HandlerMethod handlerMethod) {
+        Tier tier = handlerMethod.hasMethodAnnotation(ExpensiveEndpoint.class) ? expensive : standard;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String name = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        return new Endpoint(name, tier.name, tier.newLimiter());
+    }
+
+    private record Tier(String name, int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+            double backoffRatio) {
+
+        private AimdLimiter newLimiter() {
+            return new AimdLimiter(initialLimit, minLimit, maxLimit, latencyThreshold.toNanos(), backoffRatio);
+        }
+    }
+
+    private record Endpoint(String name, String tier, AimdLimiter limiter) {
+    }
+
+    private record Permit(AimdLimiter limiter, long startNanos) {
+    }
+}
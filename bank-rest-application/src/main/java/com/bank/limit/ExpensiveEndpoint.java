@@ -0,0 +1,19 @@
+package com.bank.limit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler method that scans or writes many rows, such as list, bulk
+ * and aggregate endpoints. {@link ConcurrencyLimitInterceptor} gives it the
+ * smaller {@code bank.concurrency-limit.expensive.*} limits instead of the
+ * {@code standard} ones used for primary-key reads and single-row writes.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExpensiveEndpoint {
+}
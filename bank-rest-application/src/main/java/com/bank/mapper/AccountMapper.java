@@ -2,17 +2,17 @@ package com.bank.mapper;
 
 import com.bank.domain.Account;
 import com.bank.domain.AccountUser;
-import com.bank.domain.AccountUserRole;
+import com.bank.domain.ArchivedAccount;
+import com.bank.domain.ArchivedAccountUser;
 import com.bank.dto.request.CreateAccountRequest;
 import com.bank.dto.request.UpdateAccountRequest;
 import com.bank.dto.response.AccountResponse;
 import com.bank.dto.response.AccountUserDTO;
 import org.mapstruct.*;
 import java.util.Set;
-import java.util.Comparator;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * MapStruct mapper for Account entity and DTOs.
@@ -55,6 +55,31 @@ public interface AccountMapper {
     @Mapping(target = "balance", ignore = true)
     AccountUserDTO accountUserToDTO(AccountUser accountUser);
 
+    /**
+     * Converts an archived account to the same AccountResponse DTO as a hot
+     * one, so callers cannot tell them apart.
+     * 
+     * @param account the archived account, with its users fetched
+     * @return account response with associated users
+     */
+    @Mapping(source = "accountUsers", target = "users")
+    AccountResponse toResponse(ArchivedAccount account);
+
+    /**
+     * Converts ArchivedAccountUser to AccountUserDTO from account perspective.
+     * 
+     * @param accountUser the archived account-user association
+     * @return DTO with user details and role
+     */
+    @Mapping(source = "user.id", target = "userId")
+    @Mapping(source = "user.name", target = "userName")
+    @Mapping(source = "user.email", target = "userEmail")
+    @Mapping(source = "role", target = "role")
+    @Mapping(target = "accountId", ignore = true)
+    @Mapping(target = "accountNumber", ignore = true)
+    @Mapping(target = "balance", ignore = true)
+    AccountUserDTO archivedAccountUserToDTO(ArchivedAccountUser accountUser);
+
     /**
      * Converts CreateAccountRequest to Account entity.
      * The primary user and account users must be set in the service layer.
@@ -64,6 +89,7 @@ public interface AccountMapper {
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "accountUsers", ignore = true)
+    @Mapping(target = "lastActivityAt", ignore = true)
     Account toEntity(CreateAccountRequest request);
 
     /**
@@ -80,12 +106,12 @@ public interface AccountMapper {
             return List.of();
         }
 
-        return accountUsers.stream()
-                .sorted(Comparator
-                        .comparing((AccountUser au) -> au.getRole() == AccountUserRole.PRIMARY ? 0 : 1)
-                        .thenComparing(au -> au.getUser().getId()))
-                .map(this::accountUserToDTO)
-                .collect(Collectors.toList());
+        AccountUser[] ordered = AccountUserOrder.sorted(accountUsers, AccountUserOrder.PRIMARY_FIRST_BY_USER_ID);
+        List<AccountUserDTO> dtos = new ArrayList<>(ordered.length);
+        for (AccountUser au : ordered) {
+            dtos.add(accountUserToDTO(au));
+        }
+        return dtos;
     }
 
     /**
@@ -97,5 +123,6 @@ public interface AccountMapper {
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "accountUsers", ignore = true)
+    @Mapping(target = "lastActivityAt", ignore = true)
     void updateEntityFromRequest(UpdateAccountRequest request, @MappingTarget Account account);
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.bank.mapper;
+
+import com.bank.domain.AccountUser;
+import com.bank.domain.AccountUserRole;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Set;
+
+/**
+ * Response order of account-user associations: PRIMARY first, then
+ * AUTHORIZED, each group sorted by id.
+ * <p>
+ * Mappers sort an array copy with these comparators, which compare primitive
+ * keys, instead of running a stream pipeline with boxed sort keys on every
+ * call: ordering a user's or an account's associations allocates only the
+ * copy.
+ */
+final class AccountUserOrder {
+
+    /** For a user's accounts. */
+    static final Comparator<AccountUser> PRIMARY_FIRST_BY_ACCOUNT_ID = (a, b) -> {
+        int byRole = compareRoles(a, b);
+        return byRole != 0 ? byRole : Long.compare(a.getAccount().getId(), b.getAccount().getId());
+    };
+
+    /** For an account's users. */
+    static final Comparator<AccountUser> PRIMARY_FIRST_BY_USER_ID = (a, b) -> {
+        int byRole = compareRoles(a, b);
+        return byRole != 0 ? byRole : Long.compare(a.getUser().getId(), b.getUser().getId());
+    };
+
+    private AccountUserOrder() {
+    }
+
+    static AccountUser[] sorted(Set<AccountUser> accountUsers, Comparator<AccountUser> order) {
+        AccountUser[] sorted = accountUsers.toArray(new AccountUser[0]);
+        Arrays.sort(sorted, order);
+        return sorted;
+    }
+
+    private static int compareRoles(AccountUser a, AccountUser b) {
+        return Boolean.compare(a.getRole() != AccountUserRole.PRIMARY, b.getRole() != AccountUserRole.PRIMARY);
+    }
+}
@@ -1,7 +1,6 @@
 package com.bank.mapper;
 
 import com.bank.domain.AccountUser;
-import com.bank.domain.AccountUserRole;
 import com.bank.domain.User;
 import com.bank.dto.request.CreateUserRequest;
 import com.bank.dto.request.UpdateUserRequest;
@@ -11,10 +10,9 @@ import com.bank.dto.response.AccountUserDTO;
 import org.mapstruct.*;
 
 import java.math.BigDecimal;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * MapStruct mapper for User entity and DTOs.
@@ -71,12 +69,12 @@ public interface UserMapper {
             return List.of();
         }
 
-        return accountUsers.stream()
-                .sorted(Comparator
-                        .comparing((AccountUser au) -> au.getRole() == AccountUserRole.PRIMARY ? 0 : 1)
-                        .thenComparing(au -> au.getAccount().getId()))
-                .map(this::accountUserToDTO)
-                .collect(Collectors.toList());
+        AccountUser[] ordered = AccountUserOrder.sorted(accountUsers, AccountUserOrder.PRIMARY_FIRST_BY_ACCOUNT_ID);
+        List<AccountUserDTO> dtos = new ArrayList<>(ordered.length);
+        for (AccountUser au : ordered) {
+            dtos.add(accountUserToDTO(au));
+        }
+        return dtos;
     }
 
     /**
@@ -128,16 +126,16 @@ public interface UserMapper {
             return List.of();
         }
 
-        return accountUsers.stream()
-                .sorted(Comparator
-                        .comparing((AccountUser au) -> au.getRole() == AccountUserRole.PRIMARY ? 0 : 1)
-                        .thenComparing(au -> au.getAccount().getId()))
-                .map(au -> new UserBalanceResponse.AccountSummary(
-                        au.getAccount().getId(),
-                        au.getAccount().getAccountNumber(),
-                        au.getAccount().getBalance(),
-                        au.getRole().name()))
-                .collect(Collectors.toList());
+        AccountUser[] ordered = AccountUserOrder.sorted(accountUsers, AccountUserOrder.PRIMARY_FIRST_BY_ACCOUNT_ID);
+        List<UserBalanceResponse.AccountSummary> summaries = new ArrayList<>(ordered.length);
+        for (AccountUser au : ordered) {
+            summaries.add(new UserBalanceResponse.AccountSummary(
+                    au.getAccount().getId(),
+                    au.getAccount().getAccountNumber(),
+                    au.getAccount().getBalance(),
+                    au.getRole().name()));
+        }
+        return summaries;
     }
 
     /**
@@ -153,8 +151,10 @@ public interface UserMapper {
             return BigDecimal.ZERO;
         }
 
-        return accountUsers.stream()
-                .map(au -> au.getAccount().getBalance())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal total = BigDecimal.ZERO;
+        for (AccountUser au : accountUsers) {
+            total = total.add(au.getAccount().getBalance());
+        }
+        return total;
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.bank.pool;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Attributes connection wait and hold times to the public methods of
+ * {@code AccountService} and {@code UserService}.
+ * <p>
+ * Ordered just inside {@code SingleFlightAspect} and outside the transaction
+ * interceptor, so the connection a transaction borrows and returns is
+ * recorded against the method that opened it, and callers waiting on a
+ * coalesced call are not counted. Nested service calls are attributed to the
+ * outermost method.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConnectionAttributionAspect {
+
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+
+    public ConnectionAttributionAspect(ConnectionPoolMetrics connectionPoolMetrics) {
+        this.connectionPoolMetrics = connectionPoolMetrics;
+    }
+
+    @Around("execution(public * com.bank.service.AccountService.*(..))"
+            + " || execution(public * com.bank.service.UserService.*(..))")
+    public Object attribute(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                + joinPoint.getSignature().getName();
+        if (!connectionPoolMetrics.beginAttribution(method)) {
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            connectionPoolMetrics.endAttribution();
+        }
+    }
+}
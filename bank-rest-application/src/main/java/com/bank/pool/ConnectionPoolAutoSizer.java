@@ -0,0 +1,137 @@
+package com.bank.pool;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resizes the connection pools at runtime from what the pool instrumentation
+ * observed over the last interval.
+ * <p>
+ * A pool grows by {@code step} connections while the p95 time to acquire a
+ * connection is above {@code acquire-target}. After each growth step the
+ * database throughput (connections returned per second) is compared with the
+ * throughput before it: if it did not improve by at least
+ * {@code min-throughput-gain}, the extra connections only queue inside the
+ * database, so the step is undone and the pool is held at that size for
+ * {@code hold-intervals} intervals. A pool shrinks by one connection while
+ * acquiring is fast and, on average, fewer than half its connections are in
+ * use. Sizes stay between {@code min-size} and {@code max-size}.
+ */
+@Component
+@ConditionalOnProperty(name = "bank.connection-pool.auto-size.enabled", havingValue = "true")
+public class ConnectionPoolAutoSizer {
+
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+    private final int minSize;
+    private final int maxSize;
+    private final int step;
+    private final long acquireTargetNanos;
+    private final double minThroughputGain;
+    private final int holdIntervals;
+    private final Map<String, SizingState> states = new ConcurrentHashMap<>();
+
+    public ConnectionPoolAutoSizer(ConnectionPoolMetrics connectionPoolMetrics,
+            @Value("${bank.connection-pool.auto-size.min-size:5}") int minSize,
+            @Value("${bank.connection-pool.auto-size.max-size:50}") int maxSize,
+            @Value("${bank.connection-pool.auto-size.step:2}") int step,
+            @Value("${bank.connection-pool.auto-size.acquire-target:PT0.005S}") Duration acquireTarget,
+            @Value("${bank.connection-pool.auto-size.min-throughput-gain:0.05}") double minThroughputGain,
+            @Value("${bank.connection-pool.auto-size.hold-intervals:6}") int holdIntervals) {
+        this.connectionPoolMetrics = connectionPoolMetrics;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.step = step;
+        this.acquireTargetNanos = acquireTarget.toNanos();
+        this.minThroughputGain = minThroughputGain;
+        this.holdIntervals = holdIntervals;
+    }
+
+    @Scheduled(initialDelayString = "${bank.connection-pool.auto-size.interval:PT10S}",
+            fixedDelayString = "${bank.connection-pool.auto-size.interval:PT10S}")
+    public void resize() {
+        long now = System.nanoTime();
+        for (ConnectionPoolMetrics.Pool pool : connectionPoolMetrics.pools()) {
+            HikariDataSource dataSource = pool.getDataSource();
+            if (dataSource != null) {
+                resize(pool, dataSource.getHikariConfigMXBean(), now);
+            }
+        }
+    }
+
+    private void resize(ConnectionPoolMetrics.Pool pool, HikariConfigMXBean config, long now) {
+        SizingState previous = states.get(pool.getName());
+        SizingState current = new SizingState(now, pool.acquire.snapshot(), pool.usage.snapshot());
+        states.put(pool.getName(), current);
+        if (previous == null) {
+            return;
+        }
+        current.holdRemaining = Math.max(0, previous.holdRemaining - 1);
+
+        Histogram acquireWindow = PoolTimer.window(current.acquired, previous.acquired);
+        Histogram usageWindow = PoolTimer.window(current.used, previous.used);
+        long returned = usageWindow.getTotalCount();
+        if (returned == 0) {
+            return;
+        }
+        long elapsedNanos = Math.max(1, now - previous.at);
+        double throughput = returned * 1e9 / elapsedNanos;
+        double busyConnections = usageWindow.getMean() * returned / elapsedNanos;
+        long acquireP95 = acquireWindow.getValueAtPercentile(95);
+        int size = config.getMaximumPoolSize();
+
+        boolean growthPaidOff = throughput >= previous.grownFromThroughput * (1 + minThroughputGain);
+        if (previous.grownFromThroughput >= 0 && !growthPaidOff) {
+            int next = Math.max(minSize, size - step);
+            apply(pool, config, next, String.format(
+                    "%d -> %d: throughput %.0f/s did not improve on %.0f/s, database saturated",
+                    size, next, throughput, previous.grownFromThroughput));
+            current.holdRemaining = holdIntervals;
+        } else if (acquireP95 > acquireTargetNanos && size < maxSize && current.holdRemaining == 0) {
+            int next = Math.min(maxSize, size + step);
+            apply(pool, config, next, String.format("%d -> %d: p95 acquire %.1f ms above target",
+                    size, next, acquireP95 / 1e6));
+            current.grownFromThroughput = throughput;
+        } else if (acquireP95 <= acquireTargetNanos && busyConnections < size / 2.0 && size > minSize) {
+            int next = size - 1;
+            apply(pool, config, next, String.format("%d -> %d: %.1f connections busy on average",
+                    size, next, busyConnections));
+        }
+    }
+
+    private static void apply(ConnectionPoolMetrics.Pool pool, HikariConfigMXBean config, int size,
+            String description) {
+        // Idle connections above the minimum are only retired when minimumIdle is below the maximum
+        if (config.getMinimumIdle() > size) {
+            config.setMinimumIdle(size);
+        }
+        config.setMaximumPoolSize(size);
+        pool.recordResize(description);
+    }
+
+    /**
+     * Counts at the end of an interval, and whether that interval grew the pool.
+     */
+    private static final class SizingState {
+        private final long at;
+        private final Histogram acquired;
+        private final Histogram used;
+        private int holdRemaining;
+        private double grownFromThroughput = -1;
+
+        private SizingState(long at, Histogram acquired, Histogram used) {
+            this.at = at;
+            this.acquired = acquired;
+            this.used = used;
+        }
+    }
+}
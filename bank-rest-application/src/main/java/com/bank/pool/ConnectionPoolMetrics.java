@@ -0,0 +1,195 @@
+package com.bank.pool;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import com.bank.dto.response.ConnectionPoolMetricsResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection pool instrumentation, installed in every {@link HikariDataSource}
+ * by {@link HikariInstrumentationPostProcessor}.
+ * <p>
+ * Hikari reports each connection acquisition (time spent waiting for the
+ * pool) and each release (time the connection was held) on the thread that
+ * borrowed the connection. Both go into per-pool HdrHistogram recorders and,
+ * when the thread is inside a service method tracked by
+ * {@link ConnectionAttributionAspect}, into that method's recorders too. A slow request with a long acquire time
+ * was waiting for the pool; one with a long usage time was waiting for the
+ * database.
+ */
+@Component
+public class ConnectionPoolMetrics implements MetricsTrackerFactory {
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private final Map<String, MethodStats> methods = new ConcurrentHashMap<>();
+    private final ThreadLocal<MethodStats> currentMethod = new ThreadLocal<>();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        Pool pool = pools.computeIfAbsent(poolName, Pool::new);
+        pool.stats = poolStats;
+        return pool;
+    }
+
+    void register(HikariDataSource dataSource) {
+        pools.computeIfAbsent(dataSource.getPoolName(), Pool::new).dataSource = dataSource;
+    }
+
+    Collection<Pool> pools() {
+        return pools.values();
+    }
+
+    /**
+     * Attributes the connections borrowed by the current thread to a service
+     * method, unless an enclosing service method already claimed them.
+     *
+     * @return whether the caller must end the attribution with
+     *         {@link #endAttribution()}
+     */
+    boolean beginAttribution(String method) {
+        if (currentMethod.get() != null) {
+            return false;
+        }
+        MethodStats stats = methods.computeIfAbsent(method, MethodStats::new);
+        stats.calls.increment();
+        currentMethod.set(stats);
+        return true;
+    }
+
+    void endAttribution() {
+        currentMethod.remove();
+    }
+
+    public ConnectionPoolMetricsResponse getMetrics() {
+        List<ConnectionPoolMetricsResponse.PoolMetrics> poolMetrics = new ArrayList<>();
+        for (Pool pool : pools.values()) {
+            poolMetrics.add(pool.toMetrics());
+        }
+        poolMetrics.sort(Comparator.comparing(ConnectionPoolMetricsResponse.PoolMetrics::getPool));
+
+        List<ConnectionPoolMetricsResponse.MethodMetrics> methodMetrics = new ArrayList<>();
+        for (MethodStats stats : methods.values()) {
+            Histogram acquired = stats.acquire.snapshot();
+            methodMetrics.add(new ConnectionPoolMetricsResponse.MethodMetrics(stats.name, stats.calls.sum(),
+                    acquired.getTotalCount(), timing(acquired), timing(stats.usage.snapshot())));
+        }
+        methodMetrics.sort(Comparator.comparing(ConnectionPoolMetricsResponse.MethodMetrics::getMethod));
+        return new ConnectionPoolMetricsResponse(poolMetrics, methodMetrics);
+    }
+
+    private static ConnectionPoolMetricsResponse.Timing timing(Histogram histogram) {
+        return new ConnectionPoolMetricsResponse.Timing(histogram.getTotalCount(), histogram.getMean() / 1e6,
+                millis(histogram, 50), millis(histogram, 95), millis(histogram, 99),
+                histogram.getMaxValue() / 1e6);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    /**
+     * Metrics tracker of one pool. Hikari calls it on the borrowing thread.
+     */
+    final class Pool implements IMetricsTracker {
+
+        private final String name;
+        final PoolTimer acquire = new PoolTimer();
+        final PoolTimer usage = new PoolTimer();
+        private final LongAdder created = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final AtomicLong resizes = new AtomicLong();
+        private volatile String lastResize;
+        private volatile PoolStats stats;
+        private volatile HikariDataSource dataSource;
+
+        private Pool(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            created.increment();
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquire.record(elapsedAcquiredNanos);
+            MethodStats method = currentMethod.get();
+            if (method != null) {
+                method.acquire.record(elapsedAcquiredNanos);
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis);
+            usage.record(nanos);
+            MethodStats method = currentMethod.get();
+            if (method != null) {
+                method.usage.record(nanos);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+
+        String getName() {
+            return name;
+        }
+
+        HikariDataSource getDataSource() {
+            return dataSource;
+        }
+
+        int getPendingThreads() {
+            PoolStats current = stats;
+            return current != null ? current.getPendingThreads() : 0;
+        }
+
+        void recordResize(String description) {
+            resizes.incrementAndGet();
+            lastResize = description;
+        }
+
+        private ConnectionPoolMetricsResponse.PoolMetrics toMetrics() {
+            PoolStats current = stats;
+            HikariDataSource source = dataSource;
+            int maximumPoolSize = source != null ? source.getHikariConfigMXBean().getMaximumPoolSize()
+                    : current != null ? current.getMaxConnections() : 0;
+            return new ConnectionPoolMetricsResponse.PoolMetrics(name,
+                    current != null ? current.getActiveConnections() : 0,
+                    current != null ? current.getIdleConnections() : 0,
+                    current != null ? current.getPendingThreads() : 0,
+                    current != null ? current.getTotalConnections() : 0,
+                    maximumPoolSize, created.sum(), timeouts.sum(), resizes.get(), lastResize,
+                    timing(acquire.snapshot()), timing(usage.snapshot()));
+        }
+    }
+
+    private static final class MethodStats {
+        private final String name;
+        private final LongAdder calls = new LongAdder();
+        private final PoolTimer acquire = new PoolTimer();
+        private final PoolTimer usage = new PoolTimer();
+
+        private MethodStats(String name) {
+            this.name = name;
+        }
+    }
+}
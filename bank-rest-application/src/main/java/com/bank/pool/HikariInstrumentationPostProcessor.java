@@ -0,0 +1,33 @@
+package com.bank.pool;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Installs {@link ConnectionPoolMetrics} in every Hikari pool before it
+ * starts, including the primary and replica pools of the {@code replica}
+ * profile. Pools without an explicit name are named after their bean.
+ */
+@Component
+public class HikariInstrumentationPostProcessor implements BeanPostProcessor {
+
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+
+    public HikariInstrumentationPostProcessor(ConnectionPoolMetrics connectionPoolMetrics) {
+        this.connectionPoolMetrics = connectionPoolMetrics;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null) {
+            if (dataSource.getPoolName() == null) {
+                dataSource.setPoolName(beanName);
+            }
+            dataSource.setMetricsTrackerFactory(connectionPoolMetrics);
+            connectionPoolMetrics.register(dataSource);
+        }
+        return bean;
+    }
+}
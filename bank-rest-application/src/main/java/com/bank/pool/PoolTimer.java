@@ -0,0 +1,52 @@
+package com.bank.pool;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Distribution of connection acquire or usage times, in nanoseconds.
+ * <p>
+ * Hikari threads record into an HdrHistogram {@link Recorder} without locks.
+ * Readers drain it into the distribution since startup and get a copy of
+ * that, so a window is the difference between two copies. Draining happens
+ * under a {@link ReentrantLock} rather than a monitor, so a virtual thread
+ * reading the metrics is never pinned.
+ */
+final class PoolTimer {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+    private final ReentrantLock lock = new ReentrantLock();
+    private Histogram recycled;
+
+    void record(long nanos) {
+        recorder.recordValue(Math.max(0, nanos));
+    }
+
+    /**
+     * Returns a copy of the distribution since startup.
+     */
+    Histogram snapshot() {
+        lock.lock();
+        try {
+            recycled = recorder.getIntervalHistogram(recycled);
+            total.add(recycled);
+            return total.copy();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the values recorded between two snapshots.
+     */
+    static Histogram window(Histogram later, Histogram earlier) {
+        Histogram window = later.copy();
+        window.subtract(earlier);
+        return window;
+    }
+}
@@ -0,0 +1,33 @@
+package com.bank.querystats;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Adds the time each JDBC statement and batch of a session takes to execute
+ * to the current request. Hibernate creates one instance per session.
+ */
+public class DbTimeSessionEventListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryStats.recordDbTime(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestQueryStats.recordDbTime(System.nanoTime() - batchStart);
+    }
+}
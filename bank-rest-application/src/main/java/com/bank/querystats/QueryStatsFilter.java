@@ -0,0 +1,88 @@
+package com.bank.querystats;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the database work of each request and records it as Micrometer
+ * histograms tagged with the HTTP method and controller mapping:
+ * <ul>
+ * <li>{@code bank.request.db.statements} - SQL statements prepared</li>
+ * <li>{@code bank.request.db.rows} - rows returned by queries</li>
+ * <li>{@code bank.request.db.entity-loads} - entities read from the database</li>
+ * <li>{@code bank.request.db.time} - time executing statements</li>
+ * </ul>
+ * A mapping whose statement count grows with the size of its response is an
+ * N+1 pattern. The statistics stay available as the
+ * {@link RequestQueryStats#ATTRIBUTE} request attribute. Requests handed to another thread by an asynchronous handler
+ * are not recorded, since their queries run outside this filter.
+ */
+@Component
+@ConditionalOnProperty(name = "bank.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_MAPPING = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        request.setAttribute(RequestQueryStats.ATTRIBUTE, stats);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            if (!request.isAsyncStarted()) {
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri",
+                pattern != null ? pattern.toString() : UNKNOWN_MAPPING);
+
+        summary("bank.request.db.statements", "SQL statements prepared per request", tags)
+                .record(stats.getStatements());
+        summary("bank.request.db.rows", "Rows returned by queries per request", tags)
+                .record(stats.getRows());
+        summary("bank.request.db.entity-loads", "Entities read from the database per request", tags)
+                .record(stats.getEntityLoads());
+        Timer.builder("bank.request.db.time")
+                .description("Time executing JDBC statements per request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getDbNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary summary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
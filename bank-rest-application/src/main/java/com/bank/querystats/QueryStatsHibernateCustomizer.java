@@ -0,0 +1,30 @@
+package com.bank.querystats;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Installs the per-request query statistics hooks in Hibernate. Settings
+ * already given through {@code spring.jpa.properties} take precedence, so a
+ * statement inspector configured there (as in {@code QueryPlanTest}) replaces
+ * the counting one.
+ */
+@Component
+@ConditionalOnProperty(name = "bank.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsHibernateCustomizer implements HibernatePropertiesCustomizer {
+
+    // Setting read by Hibernate's StatisticsInitiator
+    private static final String STATISTICS_FACTORY = "hibernate.stats.factory";
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+        hibernateProperties.putIfAbsent(STATISTICS_FACTORY, new RequestStatisticsFactory());
+        hibernateProperties.putIfAbsent(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                DbTimeSessionEventListener.class.getName());
+    }
+}
@@ -0,0 +1,48 @@
+package com.bank.querystats;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Adds the database work of the request to its response headers, for
+ * development: the counts are those of the request up to the moment its body
+ * is written. Enabled by {@code bank.query-stats.response-headers}.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "bank.query-stats.response-headers", havingValue = "true")
+public class QueryStatsResponseHeaders implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-DB-Statements";
+    public static final String ROWS_HEADER = "X-DB-Rows";
+    public static final String ENTITY_LOADS_HEADER = "X-DB-Entity-Loads";
+    public static final String TIME_HEADER = "X-DB-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(STATEMENTS_HEADER, Integer.toString(stats.getStatements()));
+            headers.set(ROWS_HEADER, Long.toString(stats.getRows()));
+            headers.set(ENTITY_LOADS_HEADER, Integer.toString(stats.getEntityLoads()));
+            headers.set(TIME_HEADER, String.format(Locale.ROOT, "%.3f", stats.getDbNanos() / 1_000_000.0));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,101 @@
+package com.bank.querystats;
+
+/**
+ * Database work of the request being served by the current thread.
+ * <p>
+ * {@link QueryStatsFilter} opens one per request; the Hibernate hooks of this
+ * package add to it from the same thread. Work done outside a request, or on
+ * another thread (such as the executor behind {@code /async}), is not counted.
+ */
+public final class RequestQueryStats {
+
+    /**
+     * Request attribute holding the statistics once the request completes.
+     */
+    public static final String ATTRIBUTE = RequestQueryStats.class.getName();
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private int entityLoads;
+    private long dbNanos;
+
+    private RequestQueryStats() {
+    }
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the statistics of the current request, or null outside a request
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    static void recordStatement() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void recordRows(int rows) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.rows += rows;
+        }
+    }
+
+    static void recordEntityLoad() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    static void recordDbTime(long nanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.dbNanos += nanos;
+        }
+    }
+
+    /**
+     * SQL statements Hibernate prepared, including those served by the
+     * statement batch of a flush.
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * Rows returned by HQL, criteria and native queries.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Entities read from the database, by id or by lazy association.
+     * Second-level cache hits are not counted.
+     */
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    /**
+     * Time spent executing JDBC statements and batches.
+     */
+    public long getDbNanos() {
+        return dbNanos;
+    }
+}
@@ -0,0 +1,45 @@
+package com.bank.querystats;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Builds Hibernate's regular statistics, which also attribute query rows and
+ * entity loads to the current request. The session-factory-wide counters,
+ * such as those of {@code /metrics/cache}, are unchanged. Hibernate only
+ * reports to statistics when {@code hibernate.generate_statistics} is on.
+ */
+public class RequestStatisticsFactory implements StatisticsFactory {
+
+    @Override
+    public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+        return new RequestStatistics(sessionFactory);
+    }
+
+    private static final class RequestStatistics extends StatisticsImpl {
+
+        private RequestStatistics(SessionFactoryImplementor sessionFactory) {
+            super(sessionFactory);
+        }
+
+        @Override
+        public void queryExecuted(String hql, int rows, long time) {
+            super.queryExecuted(hql, rows, time);
+            RequestQueryStats.recordRows(rows);
+        }
+
+        @Override
+        public void loadEntity(String entityName) {
+            super.loadEntity(entityName);
+            RequestQueryStats.recordEntityLoad();
+        }
+
+        @Override
+        public void fetchEntity(String entityName) {
+            super.fetchEntity(entityName);
+            RequestQueryStats.recordEntityLoad();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.bank.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bank.domain.Account;
+
+import jakarta.persistence.LockModeType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    /**
+     * Find an account by its account number
+     * 
+     * @param accountNumber the account number to search for
+     * @return an Optional containing the account if found, or empty if not found
+     */
+    Optional<Account> findByAccountNumber(String accountNumber);
+
+    /**
+     * Find which of the given account numbers are already taken
+     * 
+     * @param accountNumbers the account numbers to check
+     * @return the subset of the given account numbers that already exist
+     */
+    @Query("SELECT a.accountNumber FROM Account a WHERE a.accountNumber IN :accountNumbers")
+    List<String> findExistingAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    /**
+     * Stream every account number. Must be consumed inside a transaction and
+     * closed afterwards.
+     * 
+     * @return stream of all account numbers
+     */
+    @Query("SELECT a.accountNumber FROM Account a")
+    Stream<String> streamAllAccountNumbers();
+
+    /**
+     * Find all accounts together with their user associations and users, in
+     * a single statement whatever their number
+     * 
+     * @return all accounts, with accountUsers and their users initialized
+     */
+    @Query("SELECT a FROM Account a LEFT JOIN FETCH a.accountUsers au LEFT JOIN FETCH au.user")
+    List<Account> findAllWithUsers();
+
+    /**
+     * Find all accounts associated with a specific user (any role)
+     * 
+     * @param userId ID of the user
+     * @return list of accounts associated with the user
+     */
+    @Query("SELECT a FROM Account a JOIN a.accountUsers au WHERE au.user.id = :userId")
+    List<Account> findAccountsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Find all accounts associated with a specific user and role
+     * 
+     * @param userId ID of the user
+     * @param role   role of the user in the account (e.g., PRIMARY, AUTHORIZED)
+     * @return list of accounts associated with the user and role
+     */
+    @Query("SELECT a FROM Account a JOIN a.accountUsers au WHERE au.user.id = :userId AND au.role = :role")
+    List<Account> findAccountsByUserIdAndRole(@Param("userId") Long userId,
+            @Param("role") com.bank.domain.AccountUserRole role);
+
+    /**
+     * Count accounts with balance greater than the specified amount
+     * 
+     * @param balance lower bound (exclusive)
+     * @return number of accounts with balance greater than the specified amount
+     */
+    long countByBalanceGreaterThan(BigDecimal balance);
+
+    /**
+     * Count accounts with balance less than the specified amount
+     * 
+     * @param balance upper bound (exclusive)
+     * @return number of accounts with balance less than the specified amount
+     */
+    long countByBalanceLessThan(BigDecimal balance);
+
+    /**
+     * Count accounts with balance between the specified amounts (exclusive)
+     * 
+     * @param greaterThan lower bound (exclusive)
+     * @param lessThan    upper bound (exclusive)
+     * @return number of accounts with balance between the specified amounts
+     */
+    @Query("SELECT COUNT(a) FROM Account a WHERE a.balance > :greaterThan AND a.balance < :lessThan")
+    long countByBalanceBetween(@Param("greaterThan") BigDecimal greaterThan, @Param("lessThan") BigDecimal lessThan);
+
+    /**
+     * Lock the given accounts and read what deleting them depends on, without
+     * loading the entities. Balance updates of the locked accounts wait until
+     * the transaction ends.
+     * 
+     * @param ids the account ids to lock
+     * @return id, account number and balance of the accounts that exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id AS id, a.accountNumber AS accountNumber, a.balance AS balance "
+            + "FROM Account a WHERE a.id IN :ids")
+    List<DeletionCandidate> findForDeletion(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Delete the given accounts if their balance is zero and no user is
+     * associated with them any more. Both rules are checked by the statement
+     * itself.
+     * 
+     * @param ids the account ids to delete
+     * @return number of accounts deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Account a WHERE a.id IN :ids AND a.balance = 0 "
+            + "AND NOT EXISTS (SELECT 1 FROM AccountUser au WHERE au.account.id = a.id)")
+    int deleteWithZeroBalance(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Lock and read the zero-balance accounts without activity since the
+     * given time, lowest ids first, without loading the entities. Balance
+     * updates of the locked accounts wait until the transaction ends.
+     * 
+     * @param inactiveSince accounts whose last activity is before this time
+     * @param limit         the maximum number of accounts to return
+     * @return id, account number and balance of the dormant accounts
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id AS id, a.accountNumber AS accountNumber, a.balance AS balance FROM Account a "
+            + "WHERE a.balance = 0 AND a.lastActivityAt < :inactiveSince ORDER BY a.id")
+    List<DeletionCandidate> findDormant(@Param("inactiveSince") Instant inactiveSince, Limit limit);
+
+    /**
+     * Projection of the account columns checked before a delete.
+     */
+    interface DeletionCandidate {
+        Long getId();
+
+        String getAccountNumber();
+
+        BigDecimal getBalance();
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.bank.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -9,11 +10,12 @@ import com.bank.domain.AccountUser;
 import com.bank.domain.AccountUserRole;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AccountUserRepository extends JpaRepository<AccountUser, Long> {
+public interface AccountUserRepository extends JpaRepository<AccountUser, Long>, AccountUserRepositoryCustom {
 
     /**
      * Finds all AccountUser associations for a given account ID and role.
@@ -63,4 +65,14 @@ public interface AccountUserRepository extends JpaRepository<AccountUser, Long>
      */
     @Query("SELECT COUNT(DISTINCT au.account.id) FROM AccountUser au WHERE au.user.id = :userId")
     int countAccountsByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    /**
+     * Deletes every association, in any role, of the given accounts.
+     * 
+     * @param accountIds IDs of the accounts
+     * @return number of associations deleted
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM AccountUser au WHERE au.account.id IN :accountIds")
+    int deleteByAccountIds(@Param("accountIds") Collection<Long> accountIds);
+}
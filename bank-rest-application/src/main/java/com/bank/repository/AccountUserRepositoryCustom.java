@@ -0,0 +1,31 @@
+package com.bank.repository;
+
+import com.bank.domain.AccountUserKey;
+
+import java.util.Collection;
+
+/**
+ * Set-based bulk statements for account-user associations that cannot be
+ * expressed as derived or JPQL queries.
+ */
+public interface AccountUserRepositoryCustom {
+
+    /**
+     * Inserts AUTHORIZED associations with INSERT ... SELECT statements.
+     * Pairs whose account or user does not exist, or which are already
+     * associated (in any role), are skipped by the statement itself.
+     *
+     * @param keys account/user id pairs to associate
+     * @return number of associations inserted
+     */
+    int insertAuthorizedUsers(Collection<AccountUserKey> keys);
+
+    /**
+     * Deletes AUTHORIZED associations with DELETE ... WHERE (account_id,
+     * user_id) IN (...) statements. PRIMARY associations are never removed.
+     *
+     * @param keys account/user id pairs to dissociate
+     * @return number of associations deleted
+     */
+    int deleteAuthorizedUsers(Collection<AccountUserKey> keys);
+}
@@ -0,0 +1,109 @@
+package com.bank.repository;
+
+import com.bank.domain.AccountUser;
+import com.bank.domain.AccountUserKey;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import org.hibernate.query.NativeQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Native implementation of {@link AccountUserRepositoryCustom}.
+ * Pairs are sent in chunks so each statement stays within a reasonable number
+ * of bind parameters.
+ */
+public class AccountUserRepositoryImpl implements AccountUserRepositoryCustom {
+
+    static final int PAIRS_PER_STATEMENT = 500;
+
+    private static final String INSERT_AUTHORIZED_USERS = "INSERT INTO account_users (id, account_id, user_id, role) "
+            + "SELECT NEXT VALUE FOR account_users_seq, v.account_id, v.user_id, 'AUTHORIZED' "
+            + "FROM (VALUES %s) AS v(account_id, user_id) "
+            + "WHERE EXISTS (SELECT 1 FROM accounts a WHERE a.id = v.account_id) "
+            + "AND EXISTS (SELECT 1 FROM users u WHERE u.id = v.user_id) "
+            + "AND NOT EXISTS (SELECT 1 FROM account_users au "
+            + "WHERE au.account_id = v.account_id AND au.user_id = v.user_id)";
+
+    private static final String DELETE_AUTHORIZED_USERS = "DELETE FROM account_users "
+            + "WHERE role = 'AUTHORIZED' AND (account_id, user_id) IN (%s)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertAuthorizedUsers(Collection<AccountUserKey> keys) {
+        // Pending entity changes must reach the database before the set-based statements see it
+        entityManager.flush();
+        int inserted = 0;
+        for (List<AccountUserKey> chunk : chunks(keys)) {
+            String sql = String.format(INSERT_AUTHORIZED_USERS,
+                    placeholders(chunk.size(), "(CAST(? AS BIGINT), CAST(? AS BIGINT))"));
+            inserted += bind(nativeQuery(sql), chunk).executeUpdate();
+        }
+        return inserted;
+    }
+
+    @Override
+    public int deleteAuthorizedUsers(Collection<AccountUserKey> keys) {
+        entityManager.flush();
+        int deleted = 0;
+        for (List<AccountUserKey> chunk : chunks(keys)) {
+            String sql = String.format(DELETE_AUTHORIZED_USERS, placeholders(chunk.size(), "(?, ?)"));
+            deleted += bind(nativeQuery(sql), chunk).executeUpdate();
+        }
+        return deleted;
+    }
+
+    /**
+     * Declares account_users as the only table touched, so Hibernate invalidates
+     * just the account-user entity and collection cache regions instead of the
+     * whole second-level cache.
+     */
+    private Query nativeQuery(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(AccountUser.class);
+    }
+
+    private static List<List<AccountUserKey>> chunks(Collection<AccountUserKey> keys) {
+        List<List<AccountUserKey>> chunks = new ArrayList<>();
+        List<AccountUserKey> current = new ArrayList<>(Math.min(keys.size(), PAIRS_PER_STATEMENT));
+        for (AccountUserKey key : keys) {
+            current.add(key);
+            if (current.size() == PAIRS_PER_STATEMENT) {
+                chunks.add(current);
+                current = new ArrayList<>(PAIRS_PER_STATEMENT);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int pairs, String pair) {
+        StringBuilder sb = new StringBuilder(pairs * (pair.length() + 2));
+        for (int i = 0; i < pairs; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(pair);
+        }
+        return sb.toString();
+    }
+
+    private static Query bind(Query query, List<AccountUserKey> chunk) {
+        int position = 1;
+        for (AccountUserKey key : chunk) {
+            query.setParameter(position++, key.getAccountId());
+            query.setParameter(position++, key.getUserId());
+        }
+        return query;
+    }
+}
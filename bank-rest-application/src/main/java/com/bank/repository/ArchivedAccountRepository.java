@@ -0,0 +1,54 @@
+package com.bank.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bank.domain.ArchivedAccount;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedAccountRepository extends JpaRepository<ArchivedAccount, Long>,
+        ArchivedAccountRepositoryCustom {
+
+    /**
+     * Find an archived account together with its users
+     * 
+     * @param id ID of the account
+     * @return an Optional containing the archived account if found
+     */
+    @Query("SELECT DISTINCT a FROM ArchivedAccount a LEFT JOIN FETCH a.accountUsers au LEFT JOIN FETCH au.user "
+            + "WHERE a.id = :id")
+    Optional<ArchivedAccount> findWithUsersById(@Param("id") Long id);
+
+    /**
+     * Check whether an archived account holds the given account number
+     * 
+     * @param accountNumber the account number to check
+     * @return true if the number belongs to an archived account
+     */
+    boolean existsByAccountNumber(String accountNumber);
+
+    /**
+     * Find which of the given account numbers belong to archived accounts
+     * 
+     * @param accountNumbers the account numbers to check
+     * @return the subset of the given account numbers that are archived
+     */
+    @Query("SELECT a.accountNumber FROM ArchivedAccount a WHERE a.accountNumber IN :accountNumbers")
+    List<String> findExistingAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    /**
+     * Stream every archived account number. Must be consumed inside a
+     * transaction and closed afterwards.
+     * 
+     * @return stream of all archived account numbers
+     */
+    @Query("SELECT a.accountNumber FROM ArchivedAccount a")
+    Stream<String> streamAllAccountNumbers();
+}
@@ -0,0 +1,22 @@
+package com.bank.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Set-based copy of accounts into the archive tables.
+ */
+public interface ArchivedAccountRepositoryCustom {
+
+    /**
+     * Copies the given accounts and all their associations into the archive
+     * tables with INSERT ... SELECT statements, keeping their ids. The hot
+     * rows are left in place; the caller deletes them in the same
+     * transaction.
+     *
+     * @param accountIds IDs of the accounts to copy
+     * @param archivedAt archival time recorded on each copied account
+     * @return number of accounts copied
+     */
+    int copyFromAccounts(Collection<Long> accountIds, Instant archivedAt);
+}
@@ -0,0 +1,55 @@
+package com.bank.repository;
+
+import com.bank.domain.ArchivedAccount;
+import com.bank.domain.ArchivedAccountUser;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import org.hibernate.query.NativeQuery;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Native implementation of {@link ArchivedAccountRepositoryCustom}.
+ */
+public class ArchivedAccountRepositoryImpl implements ArchivedAccountRepositoryCustom {
+
+    private static final String COPY_ACCOUNTS = "INSERT INTO archived_accounts "
+            + "(id, account_number, balance, last_activity_at, archived_at) "
+            + "SELECT id, account_number, balance, last_activity_at, :archivedAt FROM accounts WHERE id IN (:ids)";
+
+    private static final String COPY_ACCOUNT_USERS = "INSERT INTO archived_account_users "
+            + "(id, account_id, user_id, role) "
+            + "SELECT id, account_id, user_id, role FROM account_users WHERE account_id IN (:ids)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int copyFromAccounts(Collection<Long> accountIds, Instant archivedAt) {
+        // Pending entity changes must reach the database before the set-based statements see it
+        entityManager.flush();
+        int copied = nativeQuery(COPY_ACCOUNTS)
+                .setParameter("ids", accountIds)
+                .setParameter("archivedAt", archivedAt)
+                .executeUpdate();
+        nativeQuery(COPY_ACCOUNT_USERS)
+                .setParameter("ids", accountIds)
+                .executeUpdate();
+        return copied;
+    }
+
+    /**
+     * Declares the archive tables as the only ones touched, so the
+     * second-level cache regions of the hot entities are left alone.
+     */
+    private Query nativeQuery(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(ArchivedAccount.class)
+                .addSynchronizedEntityClass(ArchivedAccountUser.class);
+    }
+}
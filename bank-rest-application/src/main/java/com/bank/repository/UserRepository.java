@@ -0,0 +1,105 @@
+package com.bank.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bank.domain.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, Long> {
+
+    /**
+     * Find a user by their email address
+     * 
+     * @param email the email address to search for
+     * @return an Optional containing the user if found, or empty if not found
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Find which of the given (normalized) email addresses are already taken
+     * 
+     * @param emails the email addresses to check
+     * @return the subset of the given emails that already belong to a user
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Stream every user's email address. Must be consumed inside a transaction
+     * and closed afterwards.
+     * 
+     * @return stream of all (normalized) email addresses
+     */
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    /**
+     * Resolve user ids for the given (normalized) email addresses without
+     * loading the user entities
+     * 
+     * @param emails the email addresses to resolve
+     * @return email/id pairs for the emails that belong to a user
+     */
+    @Query("SELECT u.email AS email, u.id AS id FROM User u WHERE u.email IN :emails")
+    List<EmailAndId> findIdsByEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Find all users together with their account associations and accounts,
+     * in a single statement whatever their number
+     * 
+     * @return all users, with accountUsers and their accounts initialized
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.accountUsers au LEFT JOIN FETCH au.account")
+    List<User> findAllWithAccounts();
+
+    /**
+     * Find a user together with its account associations and accounts, in a
+     * single statement whatever their number
+     * 
+     * @param id ID of the user
+     * @return an Optional containing the user if found
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.accountUsers au LEFT JOIN FETCH au.account WHERE u.id = :id")
+    Optional<User> findWithAccountsById(@Param("id") Long id);
+
+    /**
+     * Find which of the given user ids exist
+     * 
+     * @param ids the user ids to check
+     * @return the subset of the given ids that belong to a user
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Delete the given users, skipping those that still have an account
+     * association, hot or archived. The rule is checked by the statement
+     * itself, so no user or association is loaded.
+     * 
+     * @param ids the user ids to delete
+     * @return number of users deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.id IN :ids "
+            + "AND NOT EXISTS (SELECT 1 FROM AccountUser au WHERE au.user.id = u.id) "
+            + "AND NOT EXISTS (SELECT 1 FROM ArchivedAccountUser aau WHERE aau.user.id = u.id)")
+    int deleteWithoutAccounts(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Projection of a user's email and id.
+     */
+    interface EmailAndId {
+        String getEmail();
+
+        Long getId();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.bank.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bank.cache.AccountNumberIndex;
+import com.bank.exception.ErrorMessages;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.ArchivedAccountRepository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves dormant accounts from {@code accounts} and {@code account_users} to
+ * the archive tables. An account is dormant when its balance is zero and it
+ * has had no activity (insert or update) since a given time. Archived
+ * accounts stay readable through {@link AccountService#findById(Long)}.
+ */
+@Service
+@Transactional
+public class AccountArchiveService {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ArchivedAccountRepository archivedAccountRepository;
+
+    @Autowired
+    private AccountUserService accountUserService;
+
+    @Autowired
+    private AccountNumberIndex accountNumberIndex;
+
+    /**
+     * Archives up to {@code limit} dormant accounts in one transaction: the
+     * accounts are locked, copied with their associations, then deleted from
+     * the hot tables, with one statement each.
+     * 
+     * @param inactiveSince accounts whose last activity is before this time
+     * @param limit         the maximum number of accounts to archive
+     * @return number of accounts archived
+     */
+    public int archiveDormantAccounts(Instant inactiveSince, int limit) {
+        List<AccountRepository.DeletionCandidate> dormant = accountRepository.findDormant(inactiveSince,
+                Limit.of(limit));
+        if (dormant.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(dormant.size());
+        for (AccountRepository.DeletionCandidate account : dormant) {
+            ids.add(account.getId());
+        }
+
+        archivedAccountRepository.copyFromAccounts(ids, Instant.now());
+        accountUserService.removeAllFromAccounts(ids);
+        if (accountRepository.deleteWithZeroBalance(ids) != ids.size()) {
+            // A user was associated in the meantime; roll back rather than archive a partial copy
+            throw new DataIntegrityViolationException(ErrorMessages.DATA_INTEGRITY_VIOLATION);
+        }
+        for (AccountRepository.DeletionCandidate account : dormant) {
+            accountNumberIndex.remove(account.getAccountNumber(), account.getId());
+        }
+        return ids.size();
+    }
+}
@@ -0,0 +1,347 @@
+package com.bank.service;
+
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bank.cache.AccountNumberIndex;
+import com.bank.cache.NotFoundCache;
+import com.bank.cache.UniquenessFilters;
+import com.bank.domain.Account;
+import com.bank.domain.AccountUser;
+import com.bank.domain.AccountUserRole;
+import com.bank.domain.User;
+import com.bank.exception.ErrorMessages;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.ArchivedAccountRepository;
+import com.bank.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming CSV importer for accounts.
+ * Each line holds {@code accountNumber,balance,primaryUserEmail[,authorizedUserEmail...]}.
+ * Rows are processed in chunks of a configurable size: every chunk resolves its
+ * users and checks its account numbers with one query each, inserts accounts
+ * and account-user links as JDBC batches of the chunk size, and commits in its
+ * own transaction before the persistence context is cleared. The in-memory
+ * account number index and caches learn about a chunk's accounts only once it
+ * has committed. Memory use is bounded by the chunk size and the user lookup
+ * cache, whatever the size of the input.
+ */
+@Service
+public class AccountImportService {
+
+    private static final String HEADER_PREFIX = "accountnumber";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ArchivedAccountRepository archivedAccountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UniquenessFilters uniquenessFilters;
+
+    @Autowired
+    private AccountNumberIndex accountNumberIndex;
+
+    @Autowired
+    private NotFoundCache notFoundCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${bank.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${bank.import.user-cache-size:10000}")
+    private int userCacheSize;
+
+    /**
+     * Imports the CSV read from {@code reader}, writing a line-oriented report
+     * to {@code report} as each chunk completes.
+     *
+     * @param reader the CSV source
+     * @param report destination of the streamed report
+     * @return the final summary, also written as the last report line
+     */
+    public ImportSummary importAccounts(BufferedReader reader, PrintWriter report) throws IOException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<String, Long> userIdsByEmail = new LruCache<>(userCacheSize);
+        ImportSummary summary = new ImportSummary();
+        List<CsvRow> chunk = new ArrayList<>(batchSize);
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && line.trim().toLowerCase().startsWith(HEADER_PREFIX))) {
+                continue;
+            }
+            chunk.add(new CsvRow(lineNumber, line));
+            if (chunk.size() == batchSize) {
+                processChunk(chunk, transactionTemplate, userIdsByEmail, summary, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, transactionTemplate, userIdsByEmail, summary, report);
+        }
+
+        report.printf("summary: rows=%d imported=%d failed=%d%n",
+                summary.getRows(), summary.getImported(), summary.getFailed());
+        report.flush();
+        return summary;
+    }
+
+    private void processChunk(List<CsvRow> rows, TransactionTemplate transactionTemplate,
+            Map<String, Long> userIdsByEmail, ImportSummary summary, PrintWriter report) {
+        int imported;
+        try {
+            List<Account> accounts = transactionTemplate.execute(status -> insertChunk(rows, userIdsByEmail));
+            for (Account account : accounts) {
+                uniquenessFilters.recordAccountNumber(account.getAccountNumber());
+                accountNumberIndex.put(account.getAccountNumber(), account.getId());
+                notFoundCache.forgetAccount(account.getId());
+            }
+            imported = accounts.size();
+        } catch (RuntimeException ex) {
+            // Nothing of this chunk was committed: report every row that was about to be imported.
+            // Like GlobalExceptionHandler, the report never carries the exception's own message
+            // The flush fails with Hibernate's exception, a failed commit with Spring's translation of it
+            boolean conflict = ex instanceof ConstraintViolationException || ex instanceof DataIntegrityViolationException;
+            String reason = conflict
+                    ? ErrorMessages.DATA_INTEGRITY_VIOLATION
+                    : ErrorMessages.INTERNAL_SERVER_ERROR;
+            for (CsvRow row : rows) {
+                if (row.error == null) {
+                    row.error = String.format(ErrorMessages.IMPORT_CHUNK_FAILED, reason);
+                }
+            }
+            imported = 0;
+        }
+
+        int failed = 0;
+        for (CsvRow row : rows) {
+            if (row.error != null) {
+                failed++;
+                report.printf("line %d: FAILED - %s%n", row.lineNumber, row.error);
+            }
+        }
+        summary.add(rows.size(), imported, failed);
+        report.printf("chunk %d: imported=%d failed=%d%n", summary.getChunks(), imported, failed);
+        report.flush();
+    }
+
+    /**
+     * @return the accounts inserted, detached once the chunk is flushed
+     */
+    private List<Account> insertChunk(List<CsvRow> rows, Map<String, Long> userIdsByEmail) {
+        // One JDBC batch per statement type for the whole chunk
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        Set<String> accountNumbers = new HashSet<>();
+        Set<String> possiblyTakenNumbers = new HashSet<>();
+        Set<String> unresolvedEmails = new HashSet<>();
+        for (CsvRow row : rows) {
+            row.parse();
+            if (row.error != null) {
+                continue;
+            }
+            if (!accountNumbers.add(row.accountNumber)) {
+                row.error = String.format(ErrorMessages.ACCOUNT_ALREADY_EXISTS, row.accountNumber);
+                continue;
+            }
+            if (uniquenessFilters.mightContainAccountNumber(row.accountNumber)) {
+                possiblyTakenNumbers.add(row.accountNumber);
+            }
+            for (String email : row.emails) {
+                if (!userIdsByEmail.containsKey(email)) {
+                    unresolvedEmails.add(email);
+                }
+            }
+        }
+
+        // One lookup per chunk for the users not already cached
+        if (!unresolvedEmails.isEmpty()) {
+            for (UserRepository.EmailAndId user : userRepository.findIdsByEmails(unresolvedEmails)) {
+                userIdsByEmail.put(user.getEmail(), user.getId());
+            }
+        }
+        // Account numbers of archived accounts stay reserved
+        Set<String> existingNumbers = new HashSet<>();
+        if (!possiblyTakenNumbers.isEmpty()) {
+            existingNumbers.addAll(accountRepository.findExistingAccountNumbers(possiblyTakenNumbers));
+            existingNumbers.addAll(archivedAccountRepository.findExistingAccountNumbers(possiblyTakenNumbers));
+        }
+
+        List<Account> imported = new ArrayList<>(rows.size());
+        for (CsvRow row : rows) {
+            if (row.error != null) {
+                continue;
+            }
+            if (existingNumbers.contains(row.accountNumber)) {
+                row.error = String.format(ErrorMessages.ACCOUNT_ALREADY_EXISTS, row.accountNumber);
+                continue;
+            }
+            List<Long> userIds = new ArrayList<>(row.emails.size());
+            for (String email : row.emails) {
+                Long userId = userIdsByEmail.get(email);
+                if (userId == null) {
+                    row.error = String.format(ErrorMessages.USER_NOT_FOUND_BY_EMAIL, email);
+                    break;
+                }
+                userIds.add(userId);
+            }
+            if (row.error != null) {
+                continue;
+            }
+
+            Account account = new Account();
+            account.setAccountNumber(row.accountNumber);
+            account.setBalance(row.balance);
+            entityManager.persist(account);
+            for (int i = 0; i < userIds.size(); i++) {
+                // References avoid loading the users; the first email is the primary user
+                User user = entityManager.getReference(User.class, userIds.get(i));
+                AccountUserRole role = i == 0 ? AccountUserRole.PRIMARY : AccountUserRole.AUTHORIZED;
+                entityManager.persist(new AccountUser(account, user, role));
+            }
+            imported.add(account);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return imported;
+    }
+
+    /**
+     * One CSV line, parsed lazily inside the chunk transaction.
+     */
+    private static final class CsvRow {
+        private final int lineNumber;
+        private final String line;
+        private String accountNumber;
+        private BigDecimal balance;
+        private List<String> emails;
+        private String error;
+
+        private CsvRow(int lineNumber, String line) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+        }
+
+        private void parse() {
+            String[] fields = line.split(",", -1);
+            if (fields.length < 3) {
+                error = ErrorMessages.IMPORT_INVALID_ROW;
+                return;
+            }
+            accountNumber = fields[0].trim();
+            if (accountNumber.isEmpty()) {
+                error = ErrorMessages.ACCOUNT_NUMBER_REQUIRED;
+                return;
+            }
+            try {
+                balance = new BigDecimal(fields[1].trim());
+            } catch (NumberFormatException ex) {
+                error = String.format(ErrorMessages.IMPORT_INVALID_BALANCE, fields[1].trim());
+                return;
+            }
+            if (balance.signum() < 0) {
+                error = ErrorMessages.BALANCE_NON_NEGATIVE;
+                return;
+            }
+            String primaryEmail = fields[2].trim().toLowerCase();
+            if (primaryEmail.isEmpty()) {
+                error = ErrorMessages.EMAIL_REQUIRED;
+                return;
+            }
+            // Primary user first, then distinct authorized users
+            Set<String> distinctEmails = new LinkedHashSet<>();
+            distinctEmails.add(primaryEmail);
+            for (int i = 3; i < fields.length; i++) {
+                String email = fields[i].trim().toLowerCase();
+                if (!email.isEmpty()) {
+                    distinctEmails.add(email);
+                }
+            }
+            emails = new ArrayList<>(distinctEmails);
+        }
+    }
+
+    /**
+     * Bounded, access-ordered email to user id cache shared by the chunks of
+     * one import.
+     */
+    private static final class LruCache<K, V> extends LinkedHashMap<K, V> {
+        private final int maxEntries;
+
+        private LruCache(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    /**
+     * Running totals of an import.
+     */
+    public static class ImportSummary {
+        private int chunks;
+        private long rows;
+        private long imported;
+        private long failed;
+
+        private void add(int chunkRows, int chunkImported, int chunkFailed) {
+            chunks++;
+            rows += chunkRows;
+            imported += chunkImported;
+            failed += chunkFailed;
+        }
+
+        public int getChunks() {
+            return chunks;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getImported() {
+            return imported;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.bank.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.ArchivedAccountRepository;
+import com.bank.cache.AccountNumberIndex;
+import com.bank.cache.NotFoundCache;
+import com.bank.cache.UniquenessFilters;
+import com.bank.singleflight.SingleFlight;
+import com.bank.exception.AccountNotFoundException;
+import com.bank.exception.UserAlreadyAssociatedException;
+import com.bank.exception.AccountAlreadyExistsException;
+import com.bank.mapper.AccountMapper;
+import com.bank.exception.AccountBalanceNotZeroException;
+import com.bank.exception.ErrorMessages;
+import com.bank.domain.Account;
+import com.bank.domain.AccountUser;
+import com.bank.domain.AccountUserKey;
+import com.bank.domain.AccountUserRole;
+import com.bank.domain.ArchivedAccount;
+import com.bank.domain.User;
+import com.bank.dto.response.AccountMetricsResponse;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.BulkAuthorizedUsersResponse;
+import com.bank.dto.response.BulkOperationResponse;
+import com.bank.dto.request.AccountUserLinkRequest;
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.UpdateAccountRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@Transactional
+public class AccountService {
+
+    private static final int IDS_PER_STATEMENT = 1000;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ArchivedAccountRepository archivedAccountRepository;
+
+    @Autowired
+    private AccountMapper accountMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountUserService accountUserService;
+
+    @Autowired
+    private UniquenessFilters uniquenessFilters;
+
+    @Autowired
+    private AccountNumberIndex accountNumberIndex;
+
+    @Autowired
+    private NotFoundCache notFoundCache;
+
+    @Transactional(readOnly = true)
+    public List<AccountResponse> findAll() {
+        // Users are fetched with the accounts: the mapper reads every association
+        List<Account> accounts = accountRepository.findAllWithUsers();
+        return accountMapper.toResponseList(accounts);
+    }
+
+    /**
+     * Resolves an account by id. Accounts moved to the archive by the
+     * archival job are looked up there when the id is not in the hot table,
+     * and returned in the same form.
+     * 
+     * @param id the account id
+     * @return the account, hot or archived
+     */
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public AccountResponse findById(Long id) {
+        // Ids recently found missing are rejected without a query
+        if (notFoundCache.isAccountMissing(id)) {
+            throw new AccountNotFoundException(id);
+        }
+        Optional<Account> account = accountRepository.findById(id);
+        if (account.isPresent()) {
+            return accountMapper.toResponse(account.get());
+        }
+        Optional<ArchivedAccount> archived = archivedAccountRepository.findWithUsersById(id);
+        if (archived.isPresent()) {
+            return accountMapper.toResponse(archived.get());
+        }
+        notFoundCache.markAccountMissing(id);
+        throw new AccountNotFoundException(id);
+    }
+
+    /**
+     * Resolves an account by its number.
+     * The number is mapped to an id through the in-memory index and the account
+     * is then loaded by primary key, which the second-level cache serves
+     * without a query. Misses and stale index entries fall back to a query on
+     * the account number, whose result is indexed for the next lookup.
+     * 
+     * @param accountNumber the account number to resolve
+     * @return the account
+     */
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public AccountResponse findByAccountNumber(String accountNumber) {
+        Long indexedId = accountNumberIndex.get(accountNumber);
+        if (indexedId != null) {
+            Optional<Account> indexed = accountRepository.findById(indexedId);
+            if (indexed.isPresent() && indexed.get().getAccountNumber().equals(accountNumber)) {
+                return accountMapper.toResponse(indexed.get());
+            }
+            accountNumberIndex.remove(accountNumber, indexedId);
+        }
+        // No Bloom filter short-circuit: the filters are local to this instance and may lag behind the database
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
+        accountNumberIndex.put(accountNumber, account.getId());
+        return accountMapper.toResponse(account);
+    }
+
+    public AccountResponse createAccount(CreateAccountRequest request) {
+        // Validate account number uniqueness; the Bloom filter rules out most new numbers without a query
+        if (uniquenessFilters.mightContainAccountNumber(request.getAccountNumber())
+                && isAccountNumberTaken(request.getAccountNumber())) {
+            throw new AccountAlreadyExistsException(request.getAccountNumber());
+        }
+        User primaryUser = userService.getEntityById(request.getPrimaryUserId());
+        Account account = new Account(request.getAccountNumber(), request.getBalance(), primaryUser);
+        Account savedAccount = accountRepository.save(account);
+        uniquenessFilters.recordAccountNumber(savedAccount.getAccountNumber());
+        accountNumberIndex.put(savedAccount.getAccountNumber(), savedAccount.getId());
+        notFoundCache.forgetAccount(savedAccount.getId());
+        return accountMapper.toResponse(savedAccount);
+    }
+
+    public AccountResponse updateAccount(Long id, UpdateAccountRequest request) {
+        Account account = getAccountOrThrow(id);
+
+        // Validate account number uniqueness if it's being changed
+        boolean numberChanged = request.getAccountNumber() != null &&
+                !request.getAccountNumber().equals(account.getAccountNumber());
+        if (numberChanged && uniquenessFilters.mightContainAccountNumber(request.getAccountNumber())) {
+            if (isAccountNumberTaken(request.getAccountNumber())) {
+                throw new AccountAlreadyExistsException(request.getAccountNumber());
+            }
+        }
+
+        String previousNumber = account.getAccountNumber();
+        accountMapper.updateEntityFromRequest(request, account);
+        Account updatedAccount = accountRepository.save(account);
+        if (numberChanged) {
+            uniquenessFilters.recordAccountNumber(updatedAccount.getAccountNumber());
+            accountNumberIndex.remove(previousNumber, id);
+            accountNumberIndex.put(updatedAccount.getAccountNumber(), id);
+        }
+        return accountMapper.toResponse(updatedAccount);
+    }
+
+    public AccountResponse updateBalance(Long id, BigDecimal balance) {
+        Account account = getAccountOrThrow(id);
+        account.setBalance(balance);
+        Account updatedAccount = accountRepository.save(account);
+        return accountMapper.toResponse(updatedAccount);
+    }
+
+    /**
+     * Applies a run of balance updates queued for one account in a single
+     * transaction. Each update sets an absolute balance, so only the last one
+     * is written; the others are applied and immediately superseded.
+     *
+     * @param id       the account to update
+     * @param balances the queued balances, oldest first
+     * @return one response per queued update, each showing the account as that
+     *         update left it
+     */
+    public List<AccountResponse> applyBalanceUpdates(Long id, List<BigDecimal> balances) {
+        Account account = getAccountOrThrow(id);
+        account.setBalance(balances.get(balances.size() - 1));
+        AccountResponse updated = accountMapper.toResponse(accountRepository.save(account));
+        List<AccountResponse> responses = new ArrayList<>(balances.size());
+        for (BigDecimal balance : balances) {
+            responses.add(new AccountResponse(updated.getId(), updated.getAccountNumber(), balance,
+                    updated.getUsers()));
+        }
+        return responses;
+    }
+
+    public void deleteAccount(Long id) {
+        // Ids recently found missing are rejected without a query
+        if (notFoundCache.isAccountMissing(id)) {
+            throw new AccountNotFoundException(id);
+        }
+        AccountRepository.DeletionCandidate account = deleteZeroBalanceAccounts(List.of(id)).get(id);
+        if (account == null) {
+            markMissingUnlessArchived(id);
+            throw new AccountNotFoundException(id);
+        }
+        if (account.getBalance().compareTo(BigDecimal.ZERO) != 0) {
+            throw new AccountBalanceNotZeroException(id);
+        }
+    }
+
+    /**
+     * Deletes many zero-balance accounts with set-based statements,
+     * {@value #IDS_PER_STATEMENT} ids at a time. No account or association
+     * is loaded.
+     * 
+     * @param ids the accounts to delete
+     * @return per-id results, in request order
+     */
+    public BulkOperationResponse deleteAccounts(List<Long> ids) {
+        BulkOperationResponse.ItemResult[] results = new BulkOperationResponse.ItemResult[ids.size()];
+        Map<Long, Integer> indexes = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (indexes.putIfAbsent(ids.get(i), i) != null) {
+                results[i] = BulkOperationResponse.ItemResult.failed(i, ids.get(i),
+                        String.format(ErrorMessages.DUPLICATE_ID_IN_REQUEST, ids.get(i)));
+            }
+        }
+
+        List<Long> uniqueIds = new ArrayList<>(indexes.keySet());
+        for (int from = 0; from < uniqueIds.size(); from += IDS_PER_STATEMENT) {
+            List<Long> chunk = uniqueIds.subList(from, Math.min(uniqueIds.size(), from + IDS_PER_STATEMENT));
+            Map<Long, AccountRepository.DeletionCandidate> found = deleteZeroBalanceAccounts(chunk);
+            for (Long id : chunk) {
+                int index = indexes.get(id);
+                AccountRepository.DeletionCandidate account = found.get(id);
+                if (account == null) {
+                    results[index] = BulkOperationResponse.ItemResult.failed(index, id,
+                            String.format(ErrorMessages.ACCOUNT_NOT_FOUND, id));
+                } else if (account.getBalance().compareTo(BigDecimal.ZERO) != 0) {
+                    results[index] = BulkOperationResponse.ItemResult.failed(index, id,
+                            String.format(ErrorMessages.ACCOUNT_BALANCE_NOT_ZERO, id));
+                } else {
+                    results[index] = BulkOperationResponse.ItemResult.succeeded(index, id);
+                }
+            }
+        }
+        return new BulkOperationResponse(Arrays.asList(results));
+    }
+
+    @Transactional(readOnly = true)
+    public AccountMetricsResponse getAccountMetrics(BigDecimal greaterThan, BigDecimal lessThan) {
+
+        long count;
+        String condition;
+
+        // Case 1: Both parameters provided (range query)
+        if (greaterThan != null && lessThan != null) {
+            // Need to count accounts where greaterThan < balance < lessThan
+            count = accountRepository.countByBalanceBetween(greaterThan, lessThan);
+            condition = "balance > " + greaterThan + " AND balance < " + lessThan;
+        }
+        // Case 2: Only greaterThan provided
+        else if (greaterThan != null) {
+            count = accountRepository.countByBalanceGreaterThan(greaterThan);
+            condition = "balance > " + greaterThan;
+        }
+        // Case 3: Only lessThan provided
+        else {
+            count = accountRepository.countByBalanceLessThan(lessThan);
+            condition = "balance < " + lessThan;
+        }
+
+        return new AccountMetricsResponse(count, condition);
+    }
+
+    public AccountResponse addAuthorizedUser(Long id, Long userId) {
+        if (accountUserService.findByAccountIdAndUserId(id, userId).isPresent()) {
+            throw new UserAlreadyAssociatedException(id, userId);
+        }
+        Account account = getAccountOrThrow(id);
+        User user = userService.getEntityById(userId);
+        AccountUser accountUser = new AccountUser(account, user, AccountUserRole.AUTHORIZED);
+        account.getAccountUsers().add(accountUser);
+        Account updatedAccount = accountRepository.save(account);
+        return accountMapper.toResponse(updatedAccount);
+    }
+
+    public AccountResponse removeAuthorizedUser(Long id, Long userId) {
+        Assert.notNull(id, "Account ID must not be null");
+        Assert.notNull(userId, "User ID must not be null");
+        Account account = getAccountOrThrow(id);
+        account.getAccountUsers()
+                .removeIf(au -> au.getUser().getId().equals(userId) && au.getRole() == AccountUserRole.AUTHORIZED);
+        Account updatedAccount = accountRepository.save(account);
+        return accountMapper.toResponse(updatedAccount);
+    }
+
+    /**
+     * Adds many AUTHORIZED associations with set-based INSERT ... SELECT
+     * statements. Pairs that are already associated, or whose account or user
+     * does not exist, are skipped.
+     * 
+     * @param links account/user pairs to associate
+     * @return requested, applied and skipped counts
+     */
+    public BulkAuthorizedUsersResponse addAuthorizedUsers(List<AccountUserLinkRequest> links) {
+        int added = accountUserService.addAuthorizedUsers(toKeys(links));
+        return new BulkAuthorizedUsersResponse(links.size(), added);
+    }
+
+    /**
+     * Removes many AUTHORIZED associations with set-based DELETE statements.
+     * PRIMARY associations are never removed.
+     * 
+     * @param links account/user pairs to dissociate
+     * @return requested, applied and skipped counts
+     */
+    public BulkAuthorizedUsersResponse removeAuthorizedUsers(List<AccountUserLinkRequest> links) {
+        int removed = accountUserService.removeAuthorizedUsers(toKeys(links));
+        return new BulkAuthorizedUsersResponse(links.size(), removed);
+    }
+
+    // Helper methods
+    private Set<AccountUserKey> toKeys(List<AccountUserLinkRequest> links) {
+        Set<AccountUserKey> keys = new LinkedHashSet<>();
+        for (AccountUserLinkRequest link : links) {
+            keys.add(new AccountUserKey(link.getAccountId(), link.getUserId()));
+        }
+        return keys;
+    }
+
+    /**
+     * Locks the given accounts, then deletes the associations and the
+     * accounts of those with a zero balance, with one statement each.
+     * 
+     * @return the accounts that existed, with the balance that decided
+     *         whether they were deleted
+     */
+    private Map<Long, AccountRepository.DeletionCandidate> deleteZeroBalanceAccounts(Collection<Long> ids) {
+        Map<Long, AccountRepository.DeletionCandidate> found = new HashMap<>();
+        List<Long> deletable = new ArrayList<>();
+        for (AccountRepository.DeletionCandidate account : accountRepository.findForDeletion(ids)) {
+            found.put(account.getId(), account);
+            if (account.getBalance().compareTo(BigDecimal.ZERO) == 0) {
+                deletable.add(account.getId());
+            }
+        }
+        if (deletable.isEmpty()) {
+            return found;
+        }
+
+        accountUserService.removeAllFromAccounts(deletable);
+        if (accountRepository.deleteWithZeroBalance(deletable) != deletable.size()) {
+            // A user was associated in the meantime; roll back rather than leave an account without its owner
+            throw new DataIntegrityViolationException(ErrorMessages.DATA_INTEGRITY_VIOLATION);
+        }
+        for (Long id : deletable) {
+            accountNumberIndex.remove(found.get(id).getAccountNumber(), id);
+        }
+        return found;
+    }
+
+    private Account getAccountOrThrow(Long id) {
+        // Ids recently found missing are rejected without a query
+        if (notFoundCache.isAccountMissing(id)) {
+            throw new AccountNotFoundException(id);
+        }
+        Optional<Account> account = accountRepository.findById(id);
+        if (account.isEmpty()) {
+            markMissingUnlessArchived(id);
+            throw new AccountNotFoundException(id);
+        }
+        return account.get();
+    }
+
+    /**
+     * Archived accounts cannot be changed, but must stay readable by
+     * {@link #findById(Long)}, so their ids are never cached as missing.
+     */
+    private void markMissingUnlessArchived(Long id) {
+        if (!archivedAccountRepository.existsById(id)) {
+            notFoundCache.markAccountMissing(id);
+        }
+    }
+
+    /**
+     * Account numbers of archived accounts stay reserved.
+     */
+    private boolean isAccountNumberTaken(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber).isPresent()
+                || archivedAccountRepository.existsByAccountNumber(accountNumber);
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.bank.service;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.bank.domain.AccountUser;
+import com.bank.domain.AccountUserKey;
 import com.bank.repository.AccountUserRepository;
 
 @Service
@@ -19,4 +21,16 @@ public class AccountUserService {
     public Optional<AccountUser> findByAccountIdAndUserId(Long accountId, Long userId) {
         return accountUserRepository.findByAccountIdAndUserId(accountId, userId);
     }
+
+    public int addAuthorizedUsers(Collection<AccountUserKey> keys) {
+        return accountUserRepository.insertAuthorizedUsers(keys);
+    }
+
+    public int removeAuthorizedUsers(Collection<AccountUserKey> keys) {
+        return accountUserRepository.deleteAuthorizedUsers(keys);
+    }
+
+    public int removeAllFromAccounts(Collection<Long> accountIds) {
+        return accountUserRepository.deleteByAccountIds(accountIds);
+    }
 }
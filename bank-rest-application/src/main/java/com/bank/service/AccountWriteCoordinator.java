@@ -0,0 +1,199 @@
+package com.bank.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.bank.dto.response.AccountResponse;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Entry point for account balance updates.
+ * <p>
+ * In the default {@code direct} mode every update runs in the caller's own
+ * transaction, so concurrent updates of a hot account queue up on its row lock
+ * while each holds a connection. In {@code serialized} mode updates are
+ * handed to a single writer per account instead: accounts are sharded by id
+ * across a fixed set of single-threaded executors, updates waiting for the
+ * same account are drained together and applied in one transaction, and the
+ * waiting callers hold no connection at all. Only the shard threads touch the
+ * database, so at most {@code bank.account-writes.shards} connections are used
+ * for balance updates however many requests arrive.
+ */
+@Service
+public class AccountWriteCoordinator implements DisposableBean {
+
+    public enum Mode {
+        DIRECT, SERIALIZED
+    }
+
+    @Autowired
+    private AccountService accountService;
+
+    private final Mode mode;
+    private final ExecutorService[] shards;
+    private final int maxPendingPerAccount;
+    private final int maxBatchSize;
+    private final Duration timeout;
+    private final ConcurrentHashMap<Long, AccountQueue> queues = new ConcurrentHashMap<>();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder drains = new LongAdder();
+
+    public AccountWriteCoordinator(@Value("${bank.account-writes.mode:direct}") Mode mode,
+            @Value("${bank.account-writes.shards:4}") int shardCount,
+            @Value("${bank.account-writes.max-pending-per-account:1000}") int maxPendingPerAccount,
+            @Value("${bank.account-writes.max-batch-size:100}") int maxBatchSize,
+            @Value("${bank.account-writes.timeout:PT10S}") Duration timeout) {
+        this.mode = mode;
+        this.maxPendingPerAccount = maxPendingPerAccount;
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+        this.shards = new ExecutorService[mode == Mode.SERIALIZED ? shardCount : 0];
+        for (int i = 0; i < shards.length; i++) {
+            String name = "account-writer-" + i;
+            shards[i] = Executors.newSingleThreadExecutor(task -> new Thread(task, name));
+        }
+    }
+
+    /**
+     * Sets the balance of an account, directly or through its writer.
+     *
+     * @throws TimeoutException if the writer did not apply the update within
+     *                          {@code bank.account-writes.timeout}; the update
+     *                          may still be applied afterwards
+     * @throws RejectedExecutionException if too many updates are already
+     *                                    waiting for the account
+     */
+    public AccountResponse updateBalance(Long id, BigDecimal balance) throws TimeoutException {
+        if (mode == Mode.DIRECT) {
+            return accountService.updateBalance(id, balance);
+        }
+        CompletableFuture<AccountResponse> future = submit(id, balance);
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException(ex.getMessage());
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    public long getDrains() {
+        return drains.sum();
+    }
+
+    @Override
+    public void destroy() {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    private CompletableFuture<AccountResponse> submit(Long id, BigDecimal balance) {
+        AccountQueue queue = queues.computeIfAbsent(id, key -> new AccountQueue());
+        if (queue.size.incrementAndGet() > maxPendingPerAccount) {
+            queue.size.decrementAndGet();
+            throw new RejectedExecutionException("Too many pending balance updates for account " + id);
+        }
+        PendingUpdate update = new PendingUpdate(balance);
+        queue.pending.add(update);
+        submitted.increment();
+        schedule(id, queue);
+        return update.future;
+    }
+
+    private void schedule(Long id, AccountQueue queue) {
+        // At most one drain per account is queued or running at any time
+        if (queue.scheduled.compareAndSet(false, true)) {
+            shards[(int) Math.floorMod(id, (long) shards.length)].execute(() -> drain(id, queue));
+        }
+    }
+
+    private void drain(Long id, AccountQueue queue) {
+        List<PendingUpdate> batch = new ArrayList<>();
+        PendingUpdate update;
+        while (batch.size() < maxBatchSize && (update = queue.pending.poll()) != null) {
+            batch.add(update);
+        }
+        queue.size.addAndGet(-batch.size());
+        if (!batch.isEmpty()) {
+            apply(id, batch);
+        }
+
+        queue.scheduled.set(false);
+        // Updates that arrived while draining would otherwise wait for the next submission
+        if (!queue.pending.isEmpty()) {
+            schedule(id, queue);
+        } else {
+            // A submitter still holding this queue schedules its own drain, on the same shard
+            queues.remove(id, queue);
+        }
+    }
+
+    private void apply(Long id, List<PendingUpdate> batch) {
+        drains.increment();
+        List<BigDecimal> balances = new ArrayList<>(batch.size());
+        for (PendingUpdate update : batch) {
+            balances.add(update.balance);
+        }
+        try {
+            List<AccountResponse> responses = accountService.applyBalanceUpdates(id, balances);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(responses.get(i));
+            }
+        } catch (RuntimeException | Error ex) {
+            for (PendingUpdate pending : batch) {
+                pending.future.completeExceptionally(ex);
+            }
+        }
+    }
+
+    /**
+     * Updates waiting for one account.
+     */
+    private static final class AccountQueue {
+        private final Queue<PendingUpdate> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+
+    private static final class PendingUpdate {
+        private final BigDecimal balance;
+        private final CompletableFuture<AccountResponse> future = new CompletableFuture<>();
+
+        private PendingUpdate(BigDecimal balance) {
+            this.balance = balance;
+        }
+    }
+}
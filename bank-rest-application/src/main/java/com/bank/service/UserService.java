@@ -0,0 +1,292 @@
+package com.bank.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import com.bank.repository.UserRepository;
+import com.bank.cache.NotFoundCache;
+import com.bank.cache.UniquenessFilters;
+import com.bank.sharding.ShardedAccountRepository;
+import com.bank.singleflight.SingleFlight;
+import com.bank.exception.UserNotFoundException;
+import com.bank.mapper.UserMapper;
+import com.bank.exception.UserAlreadyExistsException;
+import com.bank.exception.UserHasAccountsException;
+import com.bank.exception.ErrorMessages;
+import com.bank.domain.User;
+import com.bank.dto.response.BulkOperationResponse;
+import com.bank.dto.response.UserBalanceResponse;
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.request.UpdateUserRequest;
+import com.bank.dto.response.UserResponse;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class UserService {
+
+    private static final int IDS_PER_STATEMENT = 1000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private UniquenessFilters uniquenessFilters;
+
+    @Autowired
+    private NotFoundCache notFoundCache;
+
+    // Present only with bank.sharding.enabled
+    @Autowired(required = false)
+    private ShardedAccountRepository shardedAccountRepository;
+
+    @Transactional(readOnly = true)
+    public List<UserResponse> findAll() {
+        // Accounts are fetched with the users: the mapper reads every association
+        List<User> users = userRepository.findAllWithAccounts();
+        return userMapper.toResponseList(users);
+    }
+
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public UserResponse findById(Long id) {
+        User user = getUserOrThrow(id);
+        return userMapper.toResponse(user);
+    }
+
+    public UserResponse createUser(CreateUserRequest request) {
+        // Normalize email for lookup (case-insensitive check)
+        String normalizedEmail = normalizeEmail(request.getEmail());
+
+        // Validate email uniqueness; the Bloom filter rules out most new emails without a query
+        if (uniquenessFilters.mightContainEmail(normalizedEmail)
+                && userRepository.findByEmail(normalizedEmail).isPresent()) {
+            throw new UserAlreadyExistsException(normalizedEmail);
+        }
+        User user = userRepository.save(userMapper.toEntity(request));
+        uniquenessFilters.recordEmail(normalizedEmail);
+        notFoundCache.forgetUser(user.getId());
+        return userMapper.toResponse(user);
+    }
+
+    /**
+     * Creates many users in one transaction.
+     * Email uniqueness is checked for the whole batch with a single IN query and
+     * the inserts are flushed as JDBC batches. Invalid or conflicting items are
+     * reported individually and do not prevent the rest from being created.
+     * 
+     * @param requests the users to create
+     * @return per-item results, in request order
+     */
+    public BulkOperationResponse createUsers(List<CreateUserRequest> requests) {
+        BulkOperationResponse.ItemResult[] results = new BulkOperationResponse.ItemResult[requests.size()];
+        String[] normalizedEmails = new String[requests.size()];
+        Set<String> seenEmails = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateUserRequest request = requests.get(i);
+            if (request == null) {
+                results[i] = BulkOperationResponse.ItemResult.failed(i, null, ErrorMessages.BULK_ITEM_REQUIRED);
+                continue;
+            }
+            Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results[i] = BulkOperationResponse.ItemResult.failed(i, null, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+            String normalizedEmail = normalizeEmail(request.getEmail());
+            if (!seenEmails.add(normalizedEmail)) {
+                results[i] = BulkOperationResponse.ItemResult.failed(i, null,
+                        String.format(ErrorMessages.DUPLICATE_EMAIL_IN_REQUEST, normalizedEmail));
+                continue;
+            }
+            normalizedEmails[i] = normalizedEmail;
+        }
+
+        // Validate email uniqueness for the whole batch at once, querying only possible hits
+        Set<String> possiblyTaken = new HashSet<>();
+        for (String email : seenEmails) {
+            if (uniquenessFilters.mightContainEmail(email)) {
+                possiblyTaken.add(email);
+            }
+        }
+        Set<String> existingEmails = possiblyTaken.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingEmails(possiblyTaken));
+
+        List<Integer> indexes = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            if (existingEmails.contains(normalizedEmails[i])) {
+                results[i] = BulkOperationResponse.ItemResult.failed(i, null,
+                        String.format(ErrorMessages.USER_ALREADY_EXISTS, normalizedEmails[i]));
+                continue;
+            }
+            indexes.add(i);
+            users.add(userMapper.toEntity(requests.get(i)));
+        }
+
+        // Ids come from a pooled sequence, so the inserts go out as JDBC batches on flush
+        List<User> savedUsers = userRepository.saveAll(users);
+        userRepository.flush();
+        for (int i = 0; i < savedUsers.size(); i++) {
+            int index = indexes.get(i);
+            results[index] = BulkOperationResponse.ItemResult.succeeded(index, savedUsers.get(i).getId());
+            uniquenessFilters.recordEmail(normalizedEmails[index]);
+            notFoundCache.forgetUser(savedUsers.get(i).getId());
+        }
+
+        return new BulkOperationResponse(Arrays.asList(results));
+    }
+
+    public UserResponse updateUser(Long id, UpdateUserRequest request) {
+        User existingUser = getUserOrThrow(id);
+
+        // Normalize email for comparison (case-insensitive check)
+        String normalizedEmail = normalizeEmail(request.getEmail());
+
+        // Check if email is being updated to one of another user
+        boolean emailChanged = !existingUser.getEmail().equals(normalizedEmail);
+        if (emailChanged && uniquenessFilters.mightContainEmail(normalizedEmail) &&
+                userRepository.findByEmail(normalizedEmail).isPresent()) {
+            throw new UserAlreadyExistsException(normalizedEmail);
+        }
+        existingUser.setName(request.getName());
+        existingUser.setEmail(request.getEmail()); // Setter will normalize it
+        User updatedUser = userRepository.save(existingUser);
+        if (emailChanged) {
+            uniquenessFilters.recordEmail(normalizedEmail);
+        }
+        return userMapper.toResponse(updatedUser);
+    }
+
+    public void deleteUser(Long id) {
+        // Ids recently found missing are rejected without a query
+        if (notFoundCache.isUserMissing(id)) {
+            throw new UserNotFoundException(id);
+        }
+        // The delete checks for accounts itself; only a refused delete needs a second query
+        if (holdersOfShardedAccounts(List.of(id)).isEmpty() && userRepository.deleteWithoutAccounts(List.of(id)) == 1) {
+            return;
+        }
+        if (!userRepository.existsById(id)) {
+            notFoundCache.markUserMissing(id);
+            throw new UserNotFoundException(id);
+        }
+        throw new UserHasAccountsException(id);
+    }
+
+    /**
+     * Deletes many users with set-based statements, {@value #IDS_PER_STATEMENT}
+     * ids at a time: one query finds the ids that exist and one DELETE ... AND
+     * NOT EXISTS removes those without accounts. Only when some were refused
+     * does a second query tell which. No user or association is loaded.
+     * 
+     * @param ids the users to delete
+     * @return per-id results, in request order
+     */
+    public BulkOperationResponse deleteUsers(List<Long> ids) {
+        BulkOperationResponse.ItemResult[] results = new BulkOperationResponse.ItemResult[ids.size()];
+        Map<Long, Integer> indexes = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (indexes.putIfAbsent(ids.get(i), i) != null) {
+                results[i] = BulkOperationResponse.ItemResult.failed(i, ids.get(i),
+                        String.format(ErrorMessages.DUPLICATE_ID_IN_REQUEST, ids.get(i)));
+            }
+        }
+
+        List<Long> uniqueIds = new ArrayList<>(indexes.keySet());
+        for (int from = 0; from < uniqueIds.size(); from += IDS_PER_STATEMENT) {
+            List<Long> chunk = uniqueIds.subList(from, Math.min(uniqueIds.size(), from + IDS_PER_STATEMENT));
+            Set<Long> existing = new HashSet<>(userRepository.findExistingIds(chunk));
+            Set<Long> refused = Set.of();
+            if (!existing.isEmpty()) {
+                Set<Long> deletable = new HashSet<>(existing);
+                deletable.removeAll(holdersOfShardedAccounts(existing));
+                int deleted = deletable.isEmpty() ? 0 : userRepository.deleteWithoutAccounts(deletable);
+                if (deleted < existing.size()) {
+                    refused = new HashSet<>(userRepository.findExistingIds(existing));
+                }
+            }
+            for (Long id : chunk) {
+                int index = indexes.get(id);
+                if (!existing.contains(id)) {
+                    results[index] = BulkOperationResponse.ItemResult.failed(index, id,
+                            String.format(ErrorMessages.USER_NOT_FOUND, id));
+                } else if (refused.contains(id)) {
+                    results[index] = BulkOperationResponse.ItemResult.failed(index, id,
+                            String.format(ErrorMessages.USER_HAS_ACCOUNTS, id));
+                } else {
+                    results[index] = BulkOperationResponse.ItemResult.succeeded(index, id);
+                }
+            }
+        }
+        return new BulkOperationResponse(Arrays.asList(results));
+    }
+
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public UserBalanceResponse getUserBalance(Long id) {
+        // One statement for the user and all its accounts, however many it has
+        User user = getUserOrThrow(id, userRepository::findWithAccountsById);
+        return userMapper.toBalanceResponse(user);
+    }
+
+    // Helper methods
+    private Set<Long> holdersOfShardedAccounts(Collection<Long> ids) {
+        // Sharded accounts live in other databases, out of reach of the delete's NOT EXISTS
+        return shardedAccountRepository != null ? shardedAccountRepository.findUserIdsWithAccounts(ids) : Set.of();
+    }
+
+    private User getUserOrThrow(Long id) {
+        return getUserOrThrow(id, userRepository::findById);
+    }
+
+    private User getUserOrThrow(Long id, Function<Long, Optional<User>> loader) {
+        // Ids recently found missing are rejected without a query
+        if (notFoundCache.isUserMissing(id)) {
+            throw new UserNotFoundException(id);
+        }
+        Optional<User> user = loader.apply(id);
+        if (user.isEmpty()) {
+            notFoundCache.markUserMissing(id);
+            throw new UserNotFoundException(id);
+        }
+        return user.get();
+    }
+
+    private String normalizeEmail(String email) {
+        return email != null ? email.toLowerCase().trim() : null;
+    }
+
+    // For internal use by other services
+    public User getEntityById(Long id) {
+        return getUserOrThrow(id);
+    }
+}
\ No newline at end of file
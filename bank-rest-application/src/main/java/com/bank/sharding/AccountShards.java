@@ -0,0 +1,125 @@
+package com.bank.sharding;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * The databases holding the sharded {@code accounts} and
+ * {@code account_users} tables.
+ * <p>
+ * A new account is placed on the shard chosen by the hash of its account
+ * number, so the unique constraint of that shard is enough to keep numbers
+ * unique. Its id is {@code sequence * shards + shard}, so the shard of any
+ * account follows from its id alone. Queries that are not keyed by account
+ * run on every shard in parallel and their results are merged by the caller.
+ */
+@Component
+@ConditionalOnProperty(name = "bank.sharding.enabled", havingValue = "true")
+public class AccountShards implements DisposableBean {
+
+    private final List<Shard> shards = new ArrayList<>();
+    private final ExecutorService scatterExecutor;
+
+    public AccountShards(@Value("${bank.sharding.shards:4}") int shardCount,
+            @Value("${bank.sharding.url-pattern:jdbc:h2:mem:account-shard-%d;DB_CLOSE_DELAY=-1}") String urlPattern,
+            @Value("${bank.sharding.username:sa}") String username,
+            @Value("${bank.sharding.password:}") String password,
+            @Value("${bank.sharding.pool-size:10}") int poolSize) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        ResourceDatabasePopulator schema = new ResourceDatabasePopulator(new ClassPathResource("sharding/schema.sql"));
+        for (int i = 0; i < shardCount; i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("account-shard-" + i);
+            dataSource.setJdbcUrl(String.format(urlPattern, i));
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setMaximumPoolSize(poolSize);
+            schema.execute(dataSource);
+            shards.add(new Shard(i, dataSource, new JdbcTemplate(dataSource),
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource))));
+        }
+        this.scatterExecutor = Executors.newFixedThreadPool(shardCount, task -> {
+            Thread thread = new Thread(task, "account-shard-scatter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    public Shard forAccountId(long accountId) {
+        return shards.get((int) Math.floorMod(accountId, (long) shards.size()));
+    }
+
+    public Shard forAccountNumber(String accountNumber) {
+        int hash = accountNumber.hashCode() * 0x9E3779B9;
+        return shards.get(Math.floorMod(hash ^ (hash >>> 16), shards.size()));
+    }
+
+    /**
+     * @return a new account id, which maps back to {@code shard}
+     */
+    public long nextAccountId(Shard shard) {
+        Long sequence = shard.jdbc().queryForObject("SELECT NEXT VALUE FOR accounts_seq", Long.class);
+        return sequence * shards.size() + shard.index();
+    }
+
+    /**
+     * Runs {@code query} on every shard in parallel.
+     *
+     * @return the per-shard results, in shard order
+     */
+    public <T> List<T> scatter(Function<Shard, T> query) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> query.apply(shard), scatterExecutor));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        return results;
+    }
+
+    @Override
+    public void destroy() {
+        scatterExecutor.shutdownNow();
+        for (Shard shard : shards) {
+            shard.dataSource().close();
+        }
+    }
+
+    /**
+     * One shard database.
+     */
+    public record Shard(int index, HikariDataSource dataSource, JdbcTemplate jdbc, TransactionTemplate transactions) {
+    }
+}
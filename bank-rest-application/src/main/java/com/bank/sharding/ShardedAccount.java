@@ -0,0 +1,44 @@
+package com.bank.sharding;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * An account row of a shard with the users associated with it.
+ */
+public class ShardedAccount {
+
+    private final long id;
+    private final String accountNumber;
+    private final BigDecimal balance;
+    private final List<Holder> holders;
+
+    public ShardedAccount(long id, String accountNumber, BigDecimal balance, List<Holder> holders) {
+        this.id = id;
+        this.accountNumber = accountNumber;
+        this.balance = balance;
+        this.holders = holders;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public List<Holder> getHolders() {
+        return holders;
+    }
+
+    /**
+     * A user associated with the account and its role.
+     */
+    public record Holder(long userId, String role) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.bank.sharding;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.bank.domain.AccountUserRole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JDBC access to the sharded account tables. Calls keyed by account id or
+ * number go to a single shard; the others scatter to every shard and merge.
+ */
+@Repository
+@ConditionalOnProperty(name = "bank.sharding.enabled", havingValue = "true")
+public class ShardedAccountRepository {
+
+    private static final String SELECT_ACCOUNTS = "SELECT a.id, a.account_number, a.balance, au.user_id, au.role "
+            + "FROM accounts a LEFT JOIN account_users au ON au.account_id = a.id ";
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(rs.getLong("id"),
+            rs.getString("account_number"), rs.getBigDecimal("balance"),
+            rs.getObject("user_id", Long.class), rs.getString("role"));
+
+    private final AccountShards shards;
+
+    public ShardedAccountRepository(AccountShards shards) {
+        this.shards = shards;
+    }
+
+    /**
+     * Inserts an account and its primary user on the shard of its number.
+     *
+     * @return the new account
+     * @throws org.springframework.dao.DuplicateKeyException if the number is taken
+     */
+    public ShardedAccount insert(String accountNumber, BigDecimal balance, Long primaryUserId) {
+        AccountShards.Shard shard = shards.forAccountNumber(accountNumber);
+        return shard.transactions().execute(status -> {
+            long id = shards.nextAccountId(shard);
+            shard.jdbc().update("INSERT INTO accounts (id, account_number, balance) VALUES (?, ?, ?)",
+                    id, accountNumber, balance);
+            shard.jdbc().update("INSERT INTO account_users (account_id, user_id, role) VALUES (?, ?, ?)",
+                    id, primaryUserId, AccountUserRole.PRIMARY.name());
+            return new ShardedAccount(id, accountNumber, balance,
+                    List.of(new ShardedAccount.Holder(primaryUserId, AccountUserRole.PRIMARY.name())));
+        });
+    }
+
+    public Optional<ShardedAccount> findById(long id) {
+        List<Row> rows = shards.forAccountId(id).jdbc().query(SELECT_ACCOUNTS + "WHERE a.id = ?", ROW_MAPPER, id);
+        return group(rows).stream().findFirst();
+    }
+
+    public Optional<ShardedAccount> findByAccountNumber(String accountNumber) {
+        List<Row> rows = shards.forAccountNumber(accountNumber).jdbc()
+                .query(SELECT_ACCOUNTS + "WHERE a.account_number = ?", ROW_MAPPER, accountNumber);
+        return group(rows).stream().findFirst();
+    }
+
+    /**
+     * @return every account, ordered by id
+     */
+    public List<ShardedAccount> findAll() {
+        List<ShardedAccount> accounts = new ArrayList<>();
+        for (List<Row> rows : shards.<List<Row>>scatter(shard -> shard.jdbc().query(SELECT_ACCOUNTS, ROW_MAPPER))) {
+            accounts.addAll(group(rows));
+        }
+        accounts.sort((left, right) -> Long.compare(left.getId(), right.getId()));
+        return accounts;
+    }
+
+    /**
+     * @return the accounts {@code userId} holds on any shard, each with only
+     *         that user's association
+     */
+    public List<ShardedAccount> findByUserId(long userId) {
+        List<ShardedAccount> accounts = new ArrayList<>();
+        for (List<Row> rows : shards.<List<Row>>scatter(shard -> shard.jdbc().query(
+                SELECT_ACCOUNTS + "WHERE au.user_id = ?", ROW_MAPPER, userId))) {
+            accounts.addAll(group(rows));
+        }
+        return accounts;
+    }
+
+    public boolean updateBalance(long id, BigDecimal balance) {
+        return shards.forAccountId(id).jdbc().update("UPDATE accounts SET balance = ? WHERE id = ?", balance, id) == 1;
+    }
+
+    /**
+     * Deletes an account only if its balance is zero, in one statement, so a
+     * concurrent balance update cannot slip between the check and the delete.
+     *
+     * @return false if the account does not exist or its balance is not zero
+     */
+    public boolean deleteIfZeroBalance(long id) {
+        return shards.forAccountId(id).jdbc().update("DELETE FROM accounts WHERE id = ? AND balance = 0", id) == 1;
+    }
+
+    /**
+     * @return the ids among {@code userIds} that hold an account on any shard
+     */
+    public Set<Long> findUserIdsWithAccounts(Collection<Long> userIds) {
+        String sql = "SELECT DISTINCT user_id FROM account_users WHERE user_id IN ("
+                + String.join(", ", Collections.nCopies(userIds.size(), "?")) + ")";
+        Object[] args = userIds.toArray();
+        Set<Long> holders = new HashSet<>();
+        for (List<Long> ids : shards.<List<Long>>scatter(shard -> shard.jdbc().queryForList(sql, Long.class, args))) {
+            holders.addAll(ids);
+        }
+        return holders;
+    }
+
+    /**
+     * Counts accounts whose balance lies strictly between the bounds; a null
+     * bound is open. Each shard counts its own rows and the counts are summed.
+     */
+    public long countByBalance(BigDecimal greaterThan, BigDecimal lessThan) {
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM accounts WHERE 1 = 1");
+        List<Object> args = new ArrayList<>(2);
+        if (greaterThan != null) {
+            sql.append(" AND balance > ?");
+            args.add(greaterThan);
+        }
+        if (lessThan != null) {
+            sql.append(" AND balance < ?");
+            args.add(lessThan);
+        }
+        long count = 0;
+        for (Long shardCount : shards.<Long>scatter(shard -> shard.jdbc().queryForObject(sql.toString(), Long.class,
+                args.toArray()))) {
+            count += shardCount;
+        }
+        return count;
+    }
+
+    private static List<ShardedAccount> group(List<Row> rows) {
+        Map<Long, ShardedAccount> accounts = new LinkedHashMap<>();
+        for (Row row : rows) {
+            ShardedAccount account = accounts.computeIfAbsent(row.id,
+                    id -> new ShardedAccount(id, row.accountNumber, row.balance, new ArrayList<>()));
+            if (row.userId != null) {
+                account.getHolders().add(new ShardedAccount.Holder(row.userId, row.role));
+            }
+        }
+        return new ArrayList<>(accounts.values());
+    }
+
+    private record Row(long id, String accountNumber, BigDecimal balance, Long userId, String role) {
+    }
+}
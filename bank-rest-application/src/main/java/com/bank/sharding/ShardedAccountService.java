@@ -0,0 +1,166 @@
+package com.bank.sharding;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import com.bank.domain.AccountUserRole;
+import com.bank.domain.User;
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.response.AccountMetricsResponse;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.AccountUserDTO;
+import com.bank.dto.response.UserBalanceResponse;
+import com.bank.exception.AccountAlreadyExistsException;
+import com.bank.exception.AccountBalanceNotZeroException;
+import com.bank.exception.AccountNotFoundException;
+import com.bank.exception.UserNotFoundException;
+import com.bank.repository.UserRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Account operations on the sharded account tables. Users stay in the main
+ * database and are joined in memory.
+ */
+@Service
+@ConditionalOnProperty(name = "bank.sharding.enabled", havingValue = "true")
+public class ShardedAccountService {
+
+    @Autowired
+    private ShardedAccountRepository shardedAccountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public AccountResponse createAccount(CreateAccountRequest request) {
+        User primaryUser = userRepository.findById(request.getPrimaryUserId())
+                .orElseThrow(() -> new UserNotFoundException(request.getPrimaryUserId()));
+        BigDecimal balance = request.getBalance() != null ? request.getBalance() : BigDecimal.ZERO;
+        try {
+            ShardedAccount account = shardedAccountRepository.insert(request.getAccountNumber(), balance,
+                    primaryUser.getId());
+            return toResponse(account);
+        } catch (DuplicateKeyException ex) {
+            throw new AccountAlreadyExistsException(request.getAccountNumber());
+        }
+    }
+
+    public AccountResponse findById(Long id) {
+        return toResponse(getAccountOrThrow(id));
+    }
+
+    public AccountResponse findByAccountNumber(String accountNumber) {
+        return toResponse(shardedAccountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber)));
+    }
+
+    /**
+     * @return the accounts of every shard, ordered by id
+     */
+    public List<AccountResponse> findAll() {
+        List<ShardedAccount> accounts = shardedAccountRepository.findAll();
+        Map<Long, User> users = loadUsers(accounts);
+        List<AccountResponse> responses = new ArrayList<>(accounts.size());
+        for (ShardedAccount account : accounts) {
+            responses.add(toResponse(account, users));
+        }
+        return responses;
+    }
+
+    public AccountResponse updateBalance(Long id, BigDecimal balance) {
+        if (!shardedAccountRepository.updateBalance(id, balance)) {
+            throw new AccountNotFoundException(id);
+        }
+        return findById(id);
+    }
+
+    public void deleteAccount(Long id) {
+        if (shardedAccountRepository.deleteIfZeroBalance(id)) {
+            return;
+        }
+        // Only a refused delete needs a second query to tell why
+        getAccountOrThrow(id);
+        throw new AccountBalanceNotZeroException(id);
+    }
+
+    /**
+     * Sums the balances of a user's accounts across all shards.
+     */
+    public UserBalanceResponse getUserBalance(Long userId) {
+        User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
+        List<UserBalanceResponse.AccountSummary> summaries = new ArrayList<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (ShardedAccount account : shardedAccountRepository.findByUserId(userId)) {
+            total = total.add(account.getBalance());
+            summaries.add(new UserBalanceResponse.AccountSummary(account.getId(), account.getAccountNumber(),
+                    account.getBalance(), account.getHolders().get(0).role()));
+        }
+        // PRIMARY accounts first, as in the unsharded responses
+        summaries.sort(Comparator.comparing((UserBalanceResponse.AccountSummary summary) ->
+                !AccountUserRole.PRIMARY.name().equals(summary.getRole()))
+                .thenComparing(UserBalanceResponse.AccountSummary::getAccountId));
+        return new UserBalanceResponse(user.getId(), user.getName(), user.getEmail(), total, summaries);
+    }
+
+    /**
+     * Counts accounts by balance on every shard in parallel and sums the counts.
+     */
+    public AccountMetricsResponse getAccountMetrics(BigDecimal greaterThan, BigDecimal lessThan) {
+        long count = shardedAccountRepository.countByBalance(greaterThan, lessThan);
+        String condition;
+        if (greaterThan != null && lessThan != null) {
+            condition = "balance > " + greaterThan + " AND balance < " + lessThan;
+        } else if (greaterThan != null) {
+            condition = "balance > " + greaterThan;
+        } else {
+            condition = "balance < " + lessThan;
+        }
+        return new AccountMetricsResponse(count, condition);
+    }
+
+    // Helper methods
+    private ShardedAccount getAccountOrThrow(Long id) {
+        return shardedAccountRepository.findById(id).orElseThrow(() -> new AccountNotFoundException(id));
+    }
+
+    private AccountResponse toResponse(ShardedAccount account) {
+        return toResponse(account, loadUsers(List.of(account)));
+    }
+
+    private AccountResponse toResponse(ShardedAccount account, Map<Long, User> users) {
+        List<AccountUserDTO> holders = new ArrayList<>(account.getHolders().size());
+        for (ShardedAccount.Holder holder : account.getHolders()) {
+            User user = users.get(holder.userId());
+            holders.add(AccountUserDTO.fromAccountPerspective(holder.userId(),
+                    user != null ? user.getName() : null, user != null ? user.getEmail() : null, holder.role()));
+        }
+        holders.sort(Comparator.comparing((AccountUserDTO dto) -> !AccountUserRole.PRIMARY.name().equals(dto.getRole()))
+                .thenComparing(AccountUserDTO::getUserId));
+        return new AccountResponse(account.getId(), account.getAccountNumber(), account.getBalance(), holders);
+    }
+
+    private Map<Long, User> loadUsers(List<ShardedAccount> accounts) {
+        Set<Long> ids = new HashSet<>();
+        for (ShardedAccount account : accounts) {
+            for (ShardedAccount.Holder holder : account.getHolders()) {
+                ids.add(holder.userId());
+            }
+        }
+        Map<Long, User> users = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (User user : userRepository.findAllById(ids)) {
+                users.put(user.getId(), user);
+            }
+        }
+        return users;
+    }
+}
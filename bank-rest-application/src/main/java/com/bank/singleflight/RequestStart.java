@@ -0,0 +1,55 @@
+package com.bank.singleflight;
+
+/**
+ * Per-thread start time of the request being served, in
+ * {@link System#nanoTime()} units. Every write a client made before sending
+ * the request had committed by then, so a read that began later sees it.
+ * <p>
+ * The value is thread-bound: work handed to another thread must be wrapped
+ * with {@link #wrap(Runnable)} to keep it.
+ */
+public final class RequestStart {
+
+    private static final ThreadLocal<Long> START_NANOS = new ThreadLocal<>();
+
+    private RequestStart() {
+    }
+
+    /**
+     * @return the start of the current request, or null outside a request
+     */
+    public static Long get() {
+        return START_NANOS.get();
+    }
+
+    public static void set(long startNanos) {
+        START_NANOS.set(startNanos);
+    }
+
+    public static void clear() {
+        START_NANOS.remove();
+    }
+
+    /**
+     * @return {@code task} running with the calling thread's request start
+     */
+    public static Runnable wrap(Runnable task) {
+        Long startNanos = get();
+        if (startNanos == null) {
+            return task;
+        }
+        return () -> {
+            Long previous = START_NANOS.get();
+            START_NANOS.set(startNanos);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    START_NANOS.remove();
+                } else {
+                    START_NANOS.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.bank.singleflight;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose concurrent identical calls may share
+ * one execution. Calls are identical when they target the same method with
+ * equal arguments; see {@link SingleFlightAspect}.
+ * <p>
+ * Only for methods without side effects whose result callers do not modify:
+ * every caller of a shared execution receives the same result instance.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+}
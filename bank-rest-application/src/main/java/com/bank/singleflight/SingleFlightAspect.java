@@ -0,0 +1,161 @@
+package com.bank.singleflight;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.bank.dto.response.SingleFlightMetricsResponse;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent identical calls to {@link SingleFlight} methods.
+ * <p>
+ * The first call for a method and argument list runs; calls with equal
+ * arguments arriving while it is in flight wait for it and receive its result,
+ * or its exception, instead of querying the database again. Nothing is cached:
+ * the entry is removed as soon as the call completes, so the next call runs
+ * again and sees current data.
+ * <p>
+ * A caller only joins a call that started after its own request arrived
+ * ({@link RequestStart}), so it never receives a result read before a write
+ * it had already committed; an older call is superseded for later arrivals.
+ * Callers outside a request never join. A waiter that gets no result within
+ * {@code bank.single-flight.max-wait} runs the call itself.
+ * <p>
+ * The aspect is ordered before the transaction interceptor, so waiting callers
+ * never open a transaction or hold a connection. Calls made inside an existing
+ * transaction run on their own, since they must see that transaction's writes.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SingleFlightAspect {
+
+    private final ConcurrentHashMap<CallKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, MethodStats> stats = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long maxWaitNanos;
+
+    public SingleFlightAspect(@Value("${bank.single-flight.enabled:true}") boolean enabled,
+            @Value("${bank.single-flight.max-wait:PT2S}") Duration maxWait) {
+        this.enabled = enabled;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Around("@annotation(com.bank.singleflight.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodStats methodStats = stats.computeIfAbsent(method, MethodStats::new);
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            methodStats.bypassed.increment();
+            return joinPoint.proceed();
+        }
+
+        CallKey key = new CallKey(method, Arrays.asList(joinPoint.getArgs()));
+        Flight call = new Flight(System.nanoTime());
+        Long requestStart = RequestStart.get();
+        long joinableFrom = requestStart != null ? requestStart : call.startNanos;
+        Flight leader;
+        while ((leader = inFlight.putIfAbsent(key, call)) != null) {
+            if (leader.startNanos - joinableFrom >= 0) {
+                methodStats.deduplicated.increment();
+                try {
+                    return await(leader);
+                } catch (TimeoutException ex) {
+                    // Run alone rather than wait on without bound
+                    methodStats.deduplicated.decrement();
+                    break;
+                }
+            }
+            // Started before this request: it may have read data older than the caller's own writes
+            if (inFlight.replace(key, leader, call)) {
+                break;
+            }
+        }
+
+        methodStats.executed.increment();
+        try {
+            Object result = joinPoint.proceed();
+            call.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    public SingleFlightMetricsResponse getMetrics() {
+        List<SingleFlightMetricsResponse.MethodMetrics> methods = new ArrayList<>();
+        long executed = 0;
+        long deduplicated = 0;
+        long bypassed = 0;
+        for (MethodStats methodStats : stats.values()) {
+            SingleFlightMetricsResponse.MethodMetrics metrics = methodStats.toMetrics();
+            executed += metrics.getExecuted();
+            deduplicated += metrics.getDeduplicated();
+            bypassed += metrics.getBypassed();
+            methods.add(metrics);
+        }
+        methods.sort(Comparator.comparing(SingleFlightMetricsResponse.MethodMetrics::getMethod));
+        return new SingleFlightMetricsResponse(executed + deduplicated + bypassed, executed, deduplicated,
+                bypassed, inFlight.size(), methods);
+    }
+
+    private Object await(Flight leader) throws Throwable {
+        try {
+            return leader.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private record CallKey(Method method, List<Object> args) {
+    }
+
+    /**
+     * The shared result of one execution, and when that execution began.
+     */
+    private static final class Flight extends CompletableFuture<Object> {
+        private final long startNanos;
+
+        private Flight(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+
+    private static final class MethodStats {
+        private final String name;
+        private final LongAdder executed = new LongAdder();
+        private final LongAdder deduplicated = new LongAdder();
+        private final LongAdder bypassed = new LongAdder();
+
+        private MethodStats(Method method) {
+            this.name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        }
+
+        private SingleFlightMetricsResponse.MethodMetrics toMetrics() {
+            return new SingleFlightMetricsResponse.MethodMetrics(name, executed.sum(), deduplicated.sum(),
+                    bypassed.sum());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.bank.slowquery;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.util.DriverDataSource;
+
+/**
+ * Makes every Hikari pool open its connections through {@link SlowQueryLog}'s
+ * JDBC proxies, before the pool starts.
+ * <p>
+ * The pool keeps its type and settings: only the driver-level data source it
+ * borrows physical connections from is replaced, built from the same URL,
+ * driver, properties and credentials Hikari would have used. Pools configured
+ * with their own {@code dataSource} or {@code dataSourceClassName} are left
+ * untouched.
+ */
+@Component
+@ConditionalOnProperty(name = "bank.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryDataSourcePostProcessor(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && dataSource.getDataSource() == null
+                && dataSource.getDataSourceClassName() == null && dataSource.getJdbcUrl() != null) {
+            DriverDataSource driver = new DriverDataSource(dataSource.getJdbcUrl(), dataSource.getDriverClassName(),
+                    dataSource.getDataSourceProperties(), dataSource.getUsername(), dataSource.getPassword());
+            dataSource.setDataSource(slowQueryLog.wrap(driver, dataSource));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,163 @@
+package com.bank.slowquery;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Logs every SQL statement that takes longer than {@code bank.slow-query.threshold}
+ * to execute.
+ * <p>
+ * Statements are timed by the JDBC proxies {@link #wrap(DataSource, DataSource)}
+ * returns, which {@link SlowQueryDataSourcePostProcessor} installs under every
+ * Hikari pool. A slow statement is logged with its SQL, its bind values (every
+ * character value redacted, so account numbers, emails and names never reach
+ * the file), the rows it returned or updated, the service method that ran it
+ * and its {@code EXPLAIN} plan. The plan is computed and the line written on a
+ * background thread; when its queue is full, slow statements are counted and
+ * dropped rather than delaying requests. Lines go to the {@code bank.slow-query}
+ * logger, which {@code logback-spring.xml} writes to a rolling file.
+ */
+@Component
+@ConditionalOnProperty(name = "bank.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLog implements DisposableBean {
+
+    static final String REDACTED = "<redacted>";
+
+    private static final Logger log = LoggerFactory.getLogger("bank.slow-query");
+    private static final ThreadLocal<Boolean> EXPLAINING = new ThreadLocal<>();
+    private static final Pattern EXPLAINABLE = Pattern.compile("(select|insert|update|delete|merge|with)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private final long thresholdNanos;
+    private final boolean explain;
+    private final ThreadPoolExecutor writer;
+    private final LongAdder logged = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public SlowQueryLog(@Value("${bank.slow-query.threshold:PT0.2S}") Duration threshold,
+            @Value("${bank.slow-query.explain:true}") boolean explain,
+            @Value("${bank.slow-query.queue-capacity:1000}") int queueCapacity) {
+        this.thresholdNanos = threshold.toNanos();
+        this.explain = explain;
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), task -> {
+                    Thread thread = new Thread(task, "slow-query-log");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Wraps the data source a pool opens its connections from, so the
+     * statements run on them are timed.
+     *
+     * @param target        data source to open connections from
+     * @param explainSource data source to run {@code EXPLAIN} on, usually the
+     *                      pool itself
+     */
+    public DataSource wrap(DataSource target, DataSource explainSource) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[] { DataSource.class },
+                new SlowQueryProxies.DataSourceHandler(target, this, explainSource));
+    }
+
+    public long getLogged() {
+        return logged.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos && EXPLAINING.get() == null;
+    }
+
+    void submit(SlowQuery query) {
+        try {
+            writer.execute(() -> write(query));
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    private void write(SlowQuery query) {
+        String plan = explain ? explain(query) : null;
+        log.info("{} ms, {} rows, caller {}: {} binds {}{}",
+                String.format(Locale.ROOT, "%.1f", query.elapsedNanos() / 1e6), query.rows(), query.caller(),
+                oneLine(query.sql()), redact(query.binds()), plan != null ? " plan " + oneLine(plan) : "");
+        logged.increment();
+    }
+
+    private String explain(SlowQuery query) {
+        String sql = query.sql().strip();
+        if (!EXPLAINABLE.matcher(sql).lookingAt()) {
+            return null;
+        }
+        EXPLAINING.set(Boolean.TRUE);
+        try (Connection connection = query.explainSource().getConnection();
+                PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            List<Object> binds = query.binds();
+            for (int i = 0; i < binds.size(); i++) {
+                statement.setObject(i + 1, binds.get(i));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    plan.append(result.getString(1)).append(' ');
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            return "unavailable (" + e.getMessage() + ")";
+        } finally {
+            EXPLAINING.remove();
+        }
+    }
+
+    static List<Object> redact(List<Object> binds) {
+        List<Object> redacted = new ArrayList<>(binds.size());
+        for (Object bind : binds) {
+            redacted.add(bind instanceof CharSequence || bind instanceof char[] ? REDACTED : bind);
+        }
+        return redacted;
+    }
+
+    private static String oneLine(String text) {
+        return text.replaceAll("\\s+", " ").strip();
+    }
+
+    /**
+     * A statement over the threshold, as captured on the thread that ran it.
+     */
+    record SlowQuery(String sql, List<Object> binds, long rows, long elapsedNanos, String caller,
+            DataSource explainSource) {
+    }
+}
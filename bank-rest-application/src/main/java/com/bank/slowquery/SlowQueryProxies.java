@@ -0,0 +1,246 @@
+package com.bank.slowquery;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC proxies that time statement executions for {@link SlowQueryLog}.
+ * <p>
+ * Bind values are kept per statement; everything else is only captured for
+ * statements over the threshold. Rows are counted as the caller reads the
+ * result set, and the statement is logged once the result set or the
+ * statement is closed.
+ */
+final class SlowQueryProxies {
+
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    private SlowQueryProxies() {
+    }
+
+    static final class DataSourceHandler implements InvocationHandler {
+
+        private final DataSource target;
+        private final SlowQueryLog slowQueryLog;
+        private final DataSource explainSource;
+
+        DataSourceHandler(DataSource target, SlowQueryLog slowQueryLog, DataSource explainSource) {
+            this.target = target;
+            this.slowQueryLog = slowQueryLog;
+            this.explainSource = explainSource;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, new ConnectionHandler(connection, this));
+            }
+            return result;
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final DataSourceHandler dataSource;
+
+        private ConnectionHandler(Connection target, DataSourceHandler dataSource) {
+            this.target = target;
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, (String) args[0], dataSource));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, (String) args[0], dataSource));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, null, dataSource));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private final DataSourceHandler dataSource;
+        private final List<Object> binds = new ArrayList<>();
+        private Execution pending;
+
+        private StatementHandler(Statement target, String sql, DataSourceHandler dataSource) {
+            this.target = target;
+            this.sql = sql;
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index
+                    && method.getDeclaringClass() != Statement.class) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                binds.clear();
+            } else if (name.startsWith("execute")) {
+                return execute(method, args);
+            } else if (name.equals("getResultSet")) {
+                Object result = invokeTarget(target, method, args);
+                return pending != null && result instanceof ResultSet resultSet ? wrap(resultSet) : result;
+            } else if (name.equals("close")) {
+                complete();
+            }
+            return invokeTarget(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            complete();
+            long start = System.nanoTime();
+            Object result = invokeTarget(target, method, args);
+            long elapsed = System.nanoTime() - start;
+            if (!dataSource.slowQueryLog.isSlow(elapsed)) {
+                return result;
+            }
+            String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+            pending = new Execution(executed, Collections.unmodifiableList(new ArrayList<>(binds)), elapsed,
+                    caller());
+            if (result instanceof ResultSet resultSet) {
+                return wrap(resultSet);
+            }
+            if (result instanceof Number count) {
+                pending.rows = count.longValue();
+                complete();
+            } else if (result instanceof int[] counts) {
+                pending.rows = 0;
+                for (int count : counts) {
+                    pending.rows += Math.max(0, count);
+                }
+                complete();
+            } else if (result instanceof long[] counts) {
+                pending.rows = 0;
+                for (long count : counts) {
+                    pending.rows += Math.max(0, count);
+                }
+                complete();
+            }
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            while (binds.size() < index) {
+                binds.add(null);
+            }
+            binds.set(index - 1, value);
+        }
+
+        private ResultSet wrap(ResultSet resultSet) {
+            pending.rows = 0;
+            return proxy(ResultSet.class, new ResultSetHandler(resultSet, this));
+        }
+
+        private void complete() {
+            Execution execution = pending;
+            if (execution != null) {
+                pending = null;
+                dataSource.slowQueryLog.submit(new SlowQueryLog.SlowQuery(execution.sql, execution.binds,
+                        execution.rows, execution.elapsedNanos, execution.caller, dataSource.explainSource));
+            }
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final StatementHandler statement;
+
+        private ResultSetHandler(ResultSet target, StatementHandler statement) {
+            this.target = target;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            String name = method.getName();
+            if (name.equals("next") && Boolean.TRUE.equals(result) && statement.pending != null) {
+                statement.pending.rows++;
+            } else if (name.equals("close")) {
+                statement.complete();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A slow execution whose rows are still being counted.
+     */
+    private static final class Execution {
+        private final String sql;
+        private final List<Object> binds;
+        private final long elapsedNanos;
+        private final String caller;
+        private long rows = -1;
+
+        private Execution(String sql, List<Object> binds, long elapsedNanos, String caller) {
+            this.sql = sql;
+            this.binds = binds;
+            this.elapsedNanos = elapsedNanos;
+            this.caller = caller;
+        }
+    }
+
+    /**
+     * The service method that ran the statement, or the first application
+     * frame when it did not come from a service.
+     */
+    private static String caller() {
+        return STACK.walk(frames -> {
+            String application = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!className.startsWith("com.bank.") || className.contains("$$")
+                        || className.startsWith(SlowQueryProxies.class.getName())) {
+                    continue;
+                }
+                String name = className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                if (className.startsWith("com.bank.service.")) {
+                    return name;
+                }
+                if (application == null) {
+                    application = name;
+                }
+            }
+            return application != null ? application : "unknown";
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
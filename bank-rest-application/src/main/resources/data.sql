@@ -0,0 +1,59 @@
+-- Id sequences (pooled, allocation size 50 to match the entity mappings)
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS accounts_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS account_users_seq START WITH 1 INCREMENT BY 50;
+
+-- Users table
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL UNIQUE
+);
+
+-- Accounts table  
+CREATE TABLE IF NOT EXISTS accounts (
+    id BIGINT PRIMARY KEY,
+    account_number VARCHAR(100) NOT NULL UNIQUE,
+    balance DECIMAL(19,2) NOT NULL DEFAULT 0.00,
+    last_activity_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Account Users association table
+CREATE TABLE IF NOT EXISTS account_users (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE,
+    UNIQUE (user_id, account_id),
+    CHECK (role IN ('PRIMARY', 'AUTHORIZED'))
+);
+
+-- Indexes for better query performance
+CREATE INDEX IF NOT EXISTS idx_account_users_account_id ON account_users(account_id);
+CREATE INDEX IF NOT EXISTS idx_account_users_user_id ON account_users(user_id);
+CREATE INDEX IF NOT EXISTS idx_account_users_role ON account_users(role);
+CREATE INDEX IF NOT EXISTS idx_accounts_balance_activity ON accounts(balance, last_activity_at);
+
+-- Archive of dormant zero-balance accounts
+CREATE TABLE IF NOT EXISTS archived_accounts (
+    id BIGINT PRIMARY KEY,
+    account_number VARCHAR(100) NOT NULL UNIQUE,
+    balance DECIMAL(19,2) NOT NULL,
+    last_activity_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    archived_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS archived_account_users (
+    id BIGINT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    FOREIGN KEY (account_id) REFERENCES archived_accounts(id),
+    FOREIGN KEY (user_id) REFERENCES users(id),
+    CHECK (role IN ('PRIMARY', 'AUTHORIZED'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_archived_account_users_account_id ON archived_account_users(account_id);
+CREATE INDEX IF NOT EXISTS idx_archived_account_users_user_id ON archived_account_users(user_id);
@@ -0,0 +1,32 @@
+-- Initial schema, matching the JPA mappings of User, Account and AccountUser.
+-- Id sequences are pooled with an allocation size of 50.
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE accounts_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE account_users_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE accounts (
+    id BIGINT PRIMARY KEY,
+    account_number VARCHAR(255) NOT NULL,
+    balance DECIMAL(19, 2) NOT NULL,
+    CONSTRAINT uk_accounts_account_number UNIQUE (account_number)
+);
+
+CREATE TABLE account_users (
+    id BIGINT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    CONSTRAINT fk_account_users_account FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT fk_account_users_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT uk_account_users_account_user UNIQUE (account_id, user_id),
+    CONSTRAINT ck_account_users_role CHECK (role IN ('PRIMARY', 'AUTHORIZED'))
+);
+
+CREATE INDEX idx_account_users_user_id ON account_users (user_id);
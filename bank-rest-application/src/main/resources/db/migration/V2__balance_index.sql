@@ -0,0 +1,3 @@
+-- Range index for the balance metrics (countByBalanceGreaterThan,
+-- countByBalanceLessThan and countByBalanceBetween).
+CREATE INDEX idx_accounts_balance ON accounts (balance);
@@ -0,0 +1,30 @@
+-- Last insert or update of each account. Existing rows count as active now.
+ALTER TABLE accounts ADD COLUMN last_activity_at TIMESTAMP(6) WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+-- The archival job selects balance = 0 AND last_activity_at < ?; the balance
+-- metrics keep using the leading balance column.
+DROP INDEX idx_accounts_balance;
+CREATE INDEX idx_accounts_balance_activity ON accounts (balance, last_activity_at);
+
+-- Dormant accounts moved out of accounts / account_users, keeping their ids.
+CREATE TABLE archived_accounts (
+    id BIGINT PRIMARY KEY,
+    account_number VARCHAR(255) NOT NULL,
+    balance DECIMAL(19, 2) NOT NULL,
+    last_activity_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    archived_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_archived_accounts_account_number UNIQUE (account_number)
+);
+
+CREATE TABLE archived_account_users (
+    id BIGINT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    CONSTRAINT fk_archived_account_users_account FOREIGN KEY (account_id) REFERENCES archived_accounts (id),
+    CONSTRAINT fk_archived_account_users_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT ck_archived_account_users_role CHECK (role IN ('PRIMARY', 'AUTHORIZED'))
+);
+
+CREATE INDEX idx_archived_account_users_account_id ON archived_account_users (account_id);
+CREATE INDEX idx_archived_account_users_user_id ON archived_account_users (user_id);
@@ -0,0 +1,19 @@
+-- Schema of one account shard. Users stay in the main database, so
+-- account_users.user_id has no foreign key.
+CREATE SEQUENCE IF NOT EXISTS accounts_seq;
+
+CREATE TABLE IF NOT EXISTS accounts (
+    id BIGINT PRIMARY KEY,
+    account_number VARCHAR(255) NOT NULL UNIQUE,
+    balance NUMERIC(19, 2) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS account_users (
+    account_id BIGINT NOT NULL REFERENCES accounts (id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    PRIMARY KEY (account_id, user_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_account_users_user_id ON account_users (user_id);
+CREATE INDEX IF NOT EXISTS idx_accounts_balance ON accounts (balance);
@@ -0,0 +1,17 @@
+package com.bank.allocation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of bytes each MockMvc call of the annotated test may
+ * allocate on the request thread. Enforced by {@link AllocationBudgetExtension}.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AllocationBudget {
+
+    long bytes();
+}
@@ -0,0 +1,71 @@
+package com.bank.allocation;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultHandler;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Fails a test annotated with {@link AllocationBudget} as soon as one of its
+ * MockMvc calls allocates more than the budget, as measured by
+ * {@link AllocationInterceptor}. Register it as a field and pass it to the
+ * MockMvc builder as a result handler:
+ * <pre>
+ * &#64;RegisterExtension
+ * AllocationBudgetExtension allocationBudget = new AllocationBudgetExtension();
+ *
+ * mockMvc = MockMvcBuilders.webAppContextSetup(context).alwaysDo(allocationBudget).build();
+ * </pre>
+ * With {@code -Dbank.allocation-budgets=report} the measured bytes are printed
+ * instead of checked, to size a budget. Tests are skipped on a JVM that does
+ * not report per-thread allocations.
+ */
+public class AllocationBudgetExtension implements BeforeEachCallback, AfterEachCallback, ResultHandler {
+
+    private static final boolean REPORT_ONLY = "report".equals(System.getProperty("bank.allocation-budgets"));
+
+    private Long budget;
+    private long lastAllocatedBytes = -1;
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        AllocationBudget limit = context.getRequiredTestMethod().getAnnotation(AllocationBudget.class);
+        if (limit == null) {
+            limit = context.getRequiredTestClass().getAnnotation(AllocationBudget.class);
+        }
+        budget = limit != null ? limit.bytes() : null;
+        lastAllocatedBytes = -1;
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        budget = null;
+    }
+
+    @Override
+    public void handle(MvcResult result) {
+        HttpServletRequest request = result.getRequest();
+        Object bytes = request.getAttribute(AllocationInterceptor.ALLOCATED_BYTES_ATTRIBUTE);
+        Assumptions.assumeTrue(bytes instanceof Long, "Per-thread allocations are not reported by this JVM");
+        lastAllocatedBytes = (Long) bytes;
+        if (REPORT_ONLY) {
+            System.out.printf("%s %s allocated %,d bytes%n", request.getMethod(), request.getRequestURI(),
+                    lastAllocatedBytes);
+        } else if (budget != null && lastAllocatedBytes > budget) {
+            throw new AssertionError(String.format("%s %s allocated %,d bytes, @AllocationBudget allows %,d",
+                    request.getMethod(), request.getRequestURI(), lastAllocatedBytes, budget));
+        }
+    }
+
+    /**
+     * @return bytes allocated by the last MockMvc call, or -1 before the first
+     *         call of the current test
+     */
+    public long getLastAllocatedBytes() {
+        return lastAllocatedBytes;
+    }
+}
@@ -0,0 +1,21 @@
+package com.bank.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Baseline: requests run on Tomcat's bounded platform thread pool.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=false",
+        "bank.concurrency-limit.enabled=false",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.datasource.url=jdbc:h2:mem:bench-platform;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE" })
+@ActiveProfiles("test")
+class PlatformThreadsBenchmarkTest extends ThreadingModelBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,179 @@
+package com.bank.benchmark;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.service.AccountService;
+import com.bank.service.UserService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Closed-loop load benchmark shared by the platform and virtual thread runs.
+ * Keeps {@code benchmark.concurrency} requests in flight against
+ * {@code GET /users/{id}/balance} and {@code PATCH /accounts/{id}/balance}.
+ * Balance updates come from slow clients that hold their request body back
+ * for {@code benchmark.client-delay-ms}, which ties up a request thread on
+ * the server for that long. Results are printed as one line per endpoint.
+ * <p>
+ * Run with {@code mvn -Pjava21,benchmark test} on Java 21; tune with
+ * {@code -Dbenchmark.concurrency=...}, {@code -Dbenchmark.requests=...} and
+ * {@code -Dbenchmark.client-delay-ms=...}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class ThreadingModelBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 2000);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20000);
+    private static final long CLIENT_DELAY_MS = Long.getLong("benchmark.client-delay-ms", 50);
+    private static final int ACCOUNTS = 100;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountService accountService;
+
+    private Long userId;
+    private final List<Long> accountIds = new ArrayList<>();
+
+    protected abstract String mode();
+
+    @BeforeAll
+    void createData() {
+        userId = userService.createUser(new CreateUserRequest("Bench User", "bench@example.com")).getId();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accountIds.add(accountService.createAccount(
+                    new CreateAccountRequest("BENCH-" + i, new BigDecimal("100.00"), userId)).getId());
+        }
+    }
+
+    @Test
+    void userBalance() throws Exception {
+        Result result = run(i -> HttpRequest.newBuilder(uri("/users/" + userId + "/balance")).GET().build());
+        report("GET /users/{id}/balance", result);
+    }
+
+    @Test
+    void balanceUpdate() throws Exception {
+        Result result = run(i -> HttpRequest.newBuilder(uri("/accounts/" + accountIds.get(i % ACCOUNTS) + "/balance"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofInputStream(
+                        () -> new SlowInputStream("{\"balance\": " + (i % 1000) + ".00}", CLIENT_DELAY_MS)))
+                .build());
+        report("PATCH /accounts/{id}/balance", result);
+    }
+
+    private Result run(IntFunction<HttpRequest> requests) throws Exception {
+        // Thread-per-request client so slow request bodies do not starve the client side
+        ExecutorService clientExecutor = Executors.newCachedThreadPool();
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            Semaphore inFlight = new Semaphore(CONCURRENCY);
+            long[] latencies = new long[REQUESTS];
+            AtomicLong failures = new AtomicLong();
+            List<CompletableFuture<?>> futures = new ArrayList<>(REQUESTS);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                inFlight.acquire();
+                long sent = System.nanoTime();
+                futures.add(client.sendAsync(requests.apply(i), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> {
+                            latencies[index] = System.nanoTime() - sent;
+                            if (error != null || response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                            inFlight.release();
+                        }));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).exceptionally(ex -> null).join();
+            return new Result(System.nanoTime() - start, latencies, failures.get());
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private void report(String endpoint, Result result) {
+        long[] sorted = result.latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("[benchmark] mode=%s endpoint=\"%s\" concurrency=%d requests=%d failures=%d "
+                + "throughput=%.0f req/s p50=%.1f ms p99=%.1f ms max=%.1f ms%n",
+                mode(), endpoint, CONCURRENCY, REQUESTS, result.failures,
+                REQUESTS / (result.elapsedNanos / 1e9),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+        assertThat(result.failures).isZero();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private record Result(long elapsedNanos, long[] latencies, long failures) {
+    }
+
+    /**
+     * Request body that is only handed over after a delay, like a client on a
+     * slow link.
+     */
+    private static final class SlowInputStream extends InputStream {
+        private final byte[] body;
+        private final long delayMs;
+        private int position;
+
+        private SlowInputStream(String body, long delayMs) {
+            this.body = body.getBytes();
+            this.delayMs = delayMs;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position == 0 && delayMs > 0) {
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+            }
+            return position < body.length ? body[position++] & 0xFF : -1;
+        }
+    }
+}
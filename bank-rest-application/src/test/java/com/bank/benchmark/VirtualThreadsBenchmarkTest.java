@@ -0,0 +1,22 @@
+package com.bank.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Requests run on virtual threads, as with the virtual-threads profile.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "bank.concurrency-limit.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:bench-virtual;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE" })
+@ActiveProfiles({ "test", "virtual-threads" })
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsBenchmarkTest extends ThreadingModelBenchmark {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
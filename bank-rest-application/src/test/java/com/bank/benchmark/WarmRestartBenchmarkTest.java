@@ -0,0 +1,85 @@
+package com.bank.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bank.RestServiceApplication;
+import com.bank.repository.AccountRepository;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Restart benchmark of the prod profile: seeds a file-backed database with
+ * {@code benchmark.accounts} accounts, stops the application and measures how
+ * long it takes to start again on the same file and answer a first query.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Dtest=WarmRestartBenchmarkTest}.
+ */
+@Tag("benchmark")
+class WarmRestartBenchmarkTest {
+
+    private static final long ACCOUNTS = Long.getLong("benchmark.accounts", 10_000_000L);
+    private static final long SEED_CHUNK = 1_000_000L;
+
+    @TempDir
+    Path storage;
+
+    @Test
+    void warmRestart_PersistedAccounts_ReopensWithoutReloading() {
+        String path = storage.resolve("bankdb").toAbsolutePath().toString();
+
+        long coldStartedAt = System.nanoTime();
+        long coldStartMs;
+        long seedMs;
+        try (ConfigurableApplicationContext context = start(path)) {
+            coldStartMs = millisSince(coldStartedAt);
+            long seedStartedAt = System.nanoTime();
+            seed(new JdbcTemplate(context.getBean(DataSource.class)));
+            seedMs = millisSince(seedStartedAt);
+        }
+
+        long warmStartedAt = System.nanoTime();
+        try (ConfigurableApplicationContext context = start(path)) {
+            long warmStartMs = millisSince(warmStartedAt);
+            long queryStartedAt = System.nanoTime();
+            long count = context.getBean(AccountRepository.class).count();
+            long firstQueryMs = millisSince(queryStartedAt);
+
+            System.out.printf("[benchmark] mode=warm-restart accounts=%d coldStartMs=%d seedMs=%d "
+                    + "warmStartMs=%d firstQueryMs=%d%n", ACCOUNTS, coldStartMs, seedMs, warmStartMs, firstQueryMs);
+            assertThat(count).isEqualTo(ACCOUNTS);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String path) {
+        return new SpringApplicationBuilder(RestServiceApplication.class)
+                .profiles("prod")
+                .properties("server.port=0", "bank.storage.path=" + path)
+                .run();
+    }
+
+    /**
+     * Inserts the accounts with set-based statements, one transaction per
+     * chunk, and moves the id sequence past them.
+     */
+    private static void seed(JdbcTemplate jdbc) {
+        for (long from = 1; from <= ACCOUNTS; from += SEED_CHUNK) {
+            long to = Math.min(ACCOUNTS, from + SEED_CHUNK - 1);
+            jdbc.update("INSERT INTO accounts (id, account_number, balance) "
+                    + "SELECT X, 'BENCH-' || X, MOD(X, 100000) FROM SYSTEM_RANGE(?, ?)", from, to);
+        }
+        // The pooled optimizer hands out the 50 ids below each sequence value
+        jdbc.execute("ALTER SEQUENCE accounts_seq RESTART WITH " + (ACCOUNTS + 51));
+    }
+
+    private static long millisSince(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+}
@@ -0,0 +1,54 @@
+package com.bank.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LongLongHashMap Tests")
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("Should behave like a HashMap under random puts and removes")
+    void shouldMatchReferenceMap() {
+        // Given
+        LongLongHashMap map = new LongLongHashMap(4);
+        Map<Long, Long> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 50_000; i++) {
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                Long expected = reference.get(key);
+                boolean removed = map.remove(key, expected == null ? 1 : expected);
+                assertThat(removed).isEqualTo(expected != null);
+                reference.remove(key);
+            } else {
+                long value = 1 + random.nextInt(1_000_000);
+                map.put(key, value);
+                reference.put(key, value);
+            }
+        }
+
+        // Then
+        assertThat(map.size()).isEqualTo(reference.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(reference.getOrDefault(key, 0L));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not remove an entry that maps to a different value")
+    void shouldKeepEntryWhenExpectedValueDiffers() {
+        LongLongHashMap map = new LongLongHashMap(16);
+        map.put(7L, 100L);
+
+        assertThat(map.remove(7L, 200L)).isFalse();
+        assertThat(map.get(7L)).isEqualTo(100L);
+    }
+}
@@ -0,0 +1,30 @@
+package com.bank.cache;
+
+import org.springframework.core.Ordered;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Empties the second-level cache before each test class.
+ * <p>
+ * The JCache regions belong to the JVM, not to a Spring context, so every
+ * cached test context shares them. Each context has its own database whose
+ * ids start from 1, and entities cached by one context would otherwise be
+ * read by the next one in place of its own rows. Registered in
+ * {@code META-INF/spring.factories}.
+ */
+public class SecondLevelCacheIsolationListener extends AbstractTestExecutionListener {
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void beforeTestClass(TestContext testContext) {
+        testContext.getApplicationContext().getBeanProvider(EntityManagerFactory.class).orderedStream()
+                .forEach(entityManagerFactory -> entityManagerFactory.getCache().evictAll());
+    }
+}
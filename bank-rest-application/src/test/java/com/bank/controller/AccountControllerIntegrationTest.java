@@ -6,12 +6,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
+import com.bank.cache.UniquenessFilters;
+import com.bank.dto.request.AccountUserLinkRequest;
 import com.bank.dto.request.AddAuthorizedUserRequest;
+import com.bank.dto.request.BulkAuthorizedUsersRequest;
+import com.bank.dto.request.BulkDeleteRequest;
 import com.bank.dto.request.CreateAccountRequest;
 import com.bank.dto.request.CreateUserRequest;
 import com.bank.dto.request.UpdateAccountRequest;
@@ -20,12 +25,16 @@ import com.bank.dto.response.AccountResponse;
 import com.bank.dto.response.UserResponse;
 import com.bank.exception.ErrorMessages;
 import com.bank.service.AccountService;
+import com.bank.service.AccountUserService;
 import com.bank.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -43,9 +52,18 @@ class AccountControllerIntegrationTest {
         @Autowired
         private AccountService accountService;
 
+        @Autowired
+        private AccountUserService accountUserService;
+
         @Autowired
         private ObjectMapper objectMapper;
 
+        @Autowired
+        private UniquenessFilters uniquenessFilters;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
         private MockMvc mockMvc;
         private UserResponse testUser;
 
@@ -93,6 +111,52 @@ class AccountControllerIntegrationTest {
                                                 String.format(ErrorMessages.ACCOUNT_NOT_FOUND, 999L)));
         }
 
+        // ========== GET ACCOUNT BY NUMBER ==========
+
+        @Test
+        void getAccountByNumber_ExistingAccount_ReturnsAccount() throws Exception {
+                AccountResponse account = accountService.createAccount(
+                                new CreateAccountRequest("ACC-001", new BigDecimal("1000.00"), testUser.getId()));
+
+                mockMvc.perform(get("/accounts/by-number/ACC-001"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id").value(account.getId()))
+                                .andExpect(jsonPath("$.accountNumber").value("ACC-001"));
+        }
+
+        @Test
+        void getAccountByNumber_AfterNumberChange_ResolvesNewNumberOnly() throws Exception {
+                AccountResponse account = accountService.createAccount(
+                                new CreateAccountRequest("ACC-001", new BigDecimal("1000.00"), testUser.getId()));
+                accountService.updateAccount(account.getId(), new UpdateAccountRequest("ACC-002", new BigDecimal("1000.00")));
+
+                mockMvc.perform(get("/accounts/by-number/ACC-002"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id").value(account.getId()));
+                mockMvc.perform(get("/accounts/by-number/ACC-001"))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.message").value(
+                                                String.format(ErrorMessages.ACCOUNT_NOT_FOUND_BY_NUMBER, "ACC-001")));
+        }
+
+        @Test
+        void getAccountByNumber_AccountUnknownToLocalFilters_ReturnsAccount() throws Exception {
+                // As if created by another instance: neither the index nor the Bloom filter has seen it
+                uniquenessFilters.rebuild();
+                jdbcTemplate.update("INSERT INTO accounts (id, account_number, balance) VALUES (?, ?, ?)",
+                                999_999L, "REMOTE-001", new BigDecimal("5.00"));
+
+                mockMvc.perform(get("/accounts/by-number/REMOTE-001"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id").value(999_999L));
+        }
+
+        @Test
+        void getAccountByNumber_NonExistingAccount_ReturnsNotFound() throws Exception {
+                mockMvc.perform(get("/accounts/by-number/NOPE-999"))
+                                .andExpect(status().isNotFound());
+        }
+
         // ========== CREATE ACCOUNT ==========
 
         @Test
@@ -146,6 +210,54 @@ class AccountControllerIntegrationTest {
                                                 String.format(ErrorMessages.ACCOUNT_ALREADY_EXISTS, "ACC-001")));
         }
 
+        // ========== IMPORT ACCOUNTS ==========
+
+        @Test
+        void importAccounts_ValidAndInvalidRows_StreamsReport() throws Exception {
+                userService.createUser(new CreateUserRequest("Jane Smith", "jane@example.com"));
+                accountService.createAccount(
+                                new CreateAccountRequest("ACC-001", new BigDecimal("10.00"), testUser.getId()));
+
+                String csv = "accountNumber,balance,primaryUserEmail,authorizedUserEmails\n"
+                                + "ACC-100,100.00,john.doe@example.com\n"
+                                + "ACC-101,250.50,JANE@example.com,john.doe@example.com\n"
+                                + "ACC-001,5.00,john.doe@example.com\n"
+                                + "ACC-102,-1,john.doe@example.com\n"
+                                + "ACC-103,1.00,unknown@example.com\n";
+
+                mockMvc.perform(post("/accounts/import")
+                                .contentType("text/csv")
+                                .content(csv))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string(containsString("line 4: FAILED - "
+                                                + String.format(ErrorMessages.ACCOUNT_ALREADY_EXISTS, "ACC-001"))))
+                                .andExpect(content().string(containsString("line 6: FAILED - "
+                                                + String.format(ErrorMessages.USER_NOT_FOUND_BY_EMAIL,
+                                                                "unknown@example.com"))))
+                                .andExpect(content().string(containsString("summary: rows=5 imported=2 failed=3")));
+
+                mockMvc.perform(get("/accounts"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.length()").value(3));
+        }
+
+        @Test
+        void importAccounts_ChunkRolledBack_ReportsFixedReason() throws Exception {
+                // Taken by another instance: the local Bloom filter lets the row through to the unique constraint
+                uniquenessFilters.rebuild();
+                jdbcTemplate.update("INSERT INTO accounts (id, account_number, balance) VALUES (?, ?, ?)",
+                                999_999L, "REMOTE-001", new BigDecimal("5.00"));
+
+                mockMvc.perform(post("/accounts/import")
+                                .contentType("text/csv")
+                                .content("REMOTE-001,1.00,john.doe@example.com\n"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string(containsString("line 1: FAILED - "
+                                                + String.format(ErrorMessages.IMPORT_CHUNK_FAILED,
+                                                                ErrorMessages.DATA_INTEGRITY_VIOLATION) + "\n")))
+                                .andExpect(content().string(containsString("summary: rows=1 imported=0 failed=1")));
+        }
+
         // ========== UPDATE ACCOUNT ==========
 
         @Test
@@ -251,6 +363,33 @@ class AccountControllerIntegrationTest {
                                 .andExpect(status().isNotFound());
         }
 
+        @Test
+        void deleteAccounts_MixedBatch_DeletesZeroBalanceAccountsWithTheirUsers() throws Exception {
+                AccountResponse empty = accountService
+                                .createAccount(new CreateAccountRequest("ACC-001", BigDecimal.ZERO, testUser.getId()));
+                AccountResponse funded = accountService.createAccount(
+                                new CreateAccountRequest("ACC-002", new BigDecimal("1000.00"), testUser.getId()));
+                UserResponse jane = userService.createUser(new CreateUserRequest("Jane Smith", "jane@example.com"));
+                accountService.addAuthorizedUser(empty.getId(), jane.getId());
+
+                BulkDeleteRequest request = new BulkDeleteRequest(List.of(empty.getId(), funded.getId(), 999999L));
+
+                mockMvc.perform(post("/accounts/bulk-delete")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.succeeded").value(1))
+                                .andExpect(jsonPath("$.results[0].success").value(true))
+                                .andExpect(jsonPath("$.results[1].message").value(
+                                                String.format(ErrorMessages.ACCOUNT_BALANCE_NOT_ZERO, funded.getId())))
+                                .andExpect(jsonPath("$.results[2].message").value(
+                                                String.format(ErrorMessages.ACCOUNT_NOT_FOUND, 999999L)));
+
+                assertThat(accountUserService.findByAccountIdAndUserId(empty.getId(), jane.getId())).isEmpty();
+                mockMvc.perform(get("/accounts/" + funded.getId()))
+                                .andExpect(status().isOk());
+        }
+
         // ========== ADD AUTHORIZED USER ==========
 
         @Test
@@ -305,6 +444,71 @@ class AccountControllerIntegrationTest {
                                 .andExpect(status().isBadRequest());
         }
 
+        // ========== BULK AUTHORIZED USERS ==========
+
+        @Test
+        void addAuthorizedUsers_Bulk_InsertsNewLinksAndSkipsOthers() throws Exception {
+                AccountResponse account1 = accountService.createAccount(
+                                new CreateAccountRequest("ACC-001", new BigDecimal("1000.00"), testUser.getId()));
+                AccountResponse account2 = accountService.createAccount(
+                                new CreateAccountRequest("ACC-002", new BigDecimal("2000.00"), testUser.getId()));
+                UserResponse jane = userService.createUser(new CreateUserRequest("Jane Smith", "jane@example.com"));
+
+                BulkAuthorizedUsersRequest request = new BulkAuthorizedUsersRequest(List.of(
+                                new AccountUserLinkRequest(account1.getId(), jane.getId()),
+                                new AccountUserLinkRequest(account2.getId(), jane.getId()),
+                                new AccountUserLinkRequest(account1.getId(), testUser.getId()),
+                                new AccountUserLinkRequest(account1.getId(), 999999L)));
+
+                mockMvc.perform(post("/accounts/authorized-users/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.requested").value(4))
+                                .andExpect(jsonPath("$.applied").value(2))
+                                .andExpect(jsonPath("$.skipped").value(2));
+
+                assertThat(
+                                accountUserService.findByAccountIdAndUserId(account2.getId(), jane.getId()))
+                                .hasValueSatisfying(au -> assertThat(au.getRole().name()).isEqualTo("AUTHORIZED"));
+        }
+
+        @Test
+        void removeAuthorizedUsers_Bulk_RemovesOnlyAuthorizedLinks() throws Exception {
+                AccountResponse account = accountService.createAccount(
+                                new CreateAccountRequest("ACC-001", new BigDecimal("1000.00"), testUser.getId()));
+                UserResponse jane = userService.createUser(new CreateUserRequest("Jane Smith", "jane@example.com"));
+                accountService.addAuthorizedUser(account.getId(), jane.getId());
+
+                BulkAuthorizedUsersRequest request = new BulkAuthorizedUsersRequest(List.of(
+                                new AccountUserLinkRequest(account.getId(), jane.getId()),
+                                new AccountUserLinkRequest(account.getId(), testUser.getId())));
+
+                mockMvc.perform(post("/accounts/authorized-users/bulk-remove")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.applied").value(1))
+                                .andExpect(jsonPath("$.skipped").value(1));
+
+                assertThat(
+                                accountUserService.findByAccountIdAndUserId(account.getId(), jane.getId())).isEmpty();
+                assertThat(
+                                accountUserService.findByAccountIdAndUserId(account.getId(), testUser.getId()))
+                                .isPresent();
+        }
+
+        @Test
+        void addAuthorizedUsers_MissingIds_ReturnsBadRequest() throws Exception {
+                BulkAuthorizedUsersRequest request = new BulkAuthorizedUsersRequest(List.of(
+                                new AccountUserLinkRequest(null, testUser.getId())));
+
+                mockMvc.perform(post("/accounts/authorized-users/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isBadRequest());
+        }
+
         // ========== REMOVE AUTHORIZED USER ==========
 
         @Test
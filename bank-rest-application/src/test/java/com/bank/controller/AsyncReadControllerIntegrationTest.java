@@ -0,0 +1,124 @@
+package com.bank.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.exception.ErrorMessages;
+import com.bank.service.AccountService;
+import com.bank.service.UserService;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not transactional: the reads run on executor threads, which only see
+ * committed data, so the fixtures are committed and removed after each test.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AsyncReadControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountService accountService;
+
+    private UserResponse testUser;
+    private AccountResponse testAccount;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userService.createUser(new CreateUserRequest("Async User", "async.user@example.com"));
+        testAccount = accountService.createAccount(
+                new CreateAccountRequest("ASYNC-001", BigDecimal.ZERO, testUser.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountService.deleteAccount(testAccount.getId());
+        userService.deleteUser(testUser.getId());
+    }
+
+    @Test
+    void getUserById_ExistingUser_ReturnsUser() throws Exception {
+        MvcResult result = mockMvc.perform(get("/async/users/" + testUser.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("async.user@example.com"));
+    }
+
+    @Test
+    void getAccountByNumber_ExistingAccount_ReturnsAccount() throws Exception {
+        MvcResult result = mockMvc.perform(get("/async/accounts/by-number/ASYNC-001")
+                .header(AsyncReadController.TIMEOUT_HEADER, "2000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(testAccount.getId()));
+    }
+
+    @Test
+    void getUserById_NonExistingUser_ReturnsNotFound() throws Exception {
+        MvcResult result = mockMvc.perform(get("/async/users/999999"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(String.format(ErrorMessages.USER_NOT_FOUND, 999999L)));
+    }
+
+    @Test
+    void getUserBalance_InvalidTimeout_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/async/users/" + testUser.getId() + "/balance")
+                .header(AsyncReadController.TIMEOUT_HEADER, "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.REQUEST_TIMEOUT_INVALID));
+    }
+
+    @Test
+    void getAccountMetrics_NoParameters_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/async/metrics/accounts"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.METRICS_PARAMETERS_REQUIRED));
+    }
+
+    @Test
+    void getAsyncExecutorMetrics_AfterAsyncRead_CountsCompletedTask() throws Exception {
+        MvcResult result = mockMvc.perform(get("/async/accounts/" + testAccount.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/metrics/async-executor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.submitted", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.completed", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.queueCapacity").value(200));
+    }
+}
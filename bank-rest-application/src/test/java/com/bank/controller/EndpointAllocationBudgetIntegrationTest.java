@@ -0,0 +1,143 @@
+package com.bank.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.bank.allocation.AllocationBudget;
+import com.bank.allocation.AllocationBudgetExtension;
+import com.bank.dto.request.AccountUserLinkRequest;
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.service.AccountService;
+import com.bank.service.UserService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Allocation budgets of the list and balance endpoints with 100 accounts.
+ * <p>
+ * Each endpoint is called a few times first, so class loading, JIT and cache
+ * warm-up are not counted, then measured once with an empty persistence
+ * context, as a production request would start. Each budget is the value
+ * measured on JDK 17 plus about 25%, so a regression of that size fails;
+ * after an intended change, run with {@code -Dbank.allocation-budgets=report}
+ * to print the measured values and update the budgets.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional
+class EndpointAllocationBudgetIntegrationTest {
+
+    private static final int ACCOUNTS = 100;
+    private static final int WARM_UP_CALLS = 20;
+
+    @RegisterExtension
+    AllocationBudgetExtension allocationBudget = new AllocationBudgetExtension();
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private MockMvc warmUpMvc;
+    private MockMvc mockMvc;
+    private Long holderId;
+
+    @BeforeEach
+    void setUp() {
+        warmUpMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).alwaysDo(allocationBudget).build();
+        holderId = seed();
+    }
+
+    @Test
+    @AllocationBudget(bytes = 675_000)
+    void getAllUsers_StaysWithinAllocationBudget() throws Exception {
+        measure(get("/users"));
+    }
+
+    @Test
+    @AllocationBudget(bytes = 660_000)
+    void getAllAccounts_StaysWithinAllocationBudget() throws Exception {
+        measure(get("/accounts"));
+    }
+
+    @Test
+    @AllocationBudget(bytes = 430_000)
+    void getUserBalance_StaysWithinAllocationBudget() throws Exception {
+        measure(get("/users/{id}/balance", holderId));
+    }
+
+    @Test
+    void allocations_AreReportedPerEndpoint() throws Exception {
+        mockMvc.perform(get("/users/{id}/balance", holderId)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/internal/allocations"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.supported").value(true))
+                .andExpect(jsonPath("$.endpoints[?(@.endpoint == 'GET /users/{id}/balance')].requests").exists());
+    }
+
+    private void measure(RequestBuilder request) throws Exception {
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            warmUpMvc.perform(request).andExpect(status().isOk());
+            entityManager.clear();
+        }
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        assertThat(allocationBudget.getLastAllocatedBytes()).isPositive();
+    }
+
+    /**
+     * {@value #ACCOUNTS} users owning one account each, and one more user
+     * authorized on all of them.
+     *
+     * @return id of the user authorized on every account
+     */
+    private Long seed() {
+        UserResponse holder = userService.createUser(new CreateUserRequest("Holder", "holder@example.com"));
+        List<AccountUserLinkRequest> links = new ArrayList<>(ACCOUNTS);
+        for (int i = 1; i <= ACCOUNTS; i++) {
+            UserResponse owner = userService.createUser(
+                    new CreateUserRequest("Owner " + i, "owner" + i + "@example.com"));
+            AccountResponse account = accountService.createAccount(
+                    new CreateAccountRequest("ACC-" + i, new BigDecimal("10.00"), owner.getId()));
+            links.add(new AccountUserLinkRequest(account.getId(), holder.getId()));
+        }
+        accountService.addAuthorizedUsers(links);
+        entityManager.flush();
+        entityManager.clear();
+        return holder.getId();
+    }
+}
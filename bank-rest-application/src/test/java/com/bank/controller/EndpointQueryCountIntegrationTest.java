@@ -0,0 +1,140 @@
+package com.bank.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.bank.dto.request.AccountUserLinkRequest;
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.querystats.MaxQueries;
+import com.bank.querystats.QueryCountExtension;
+import com.bank.querystats.QueryStatsFilter;
+import com.bank.service.AccountService;
+import com.bank.service.UserService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks that list and balance endpoints prepare the same number of SQL
+ * statements whether they return 1, 10 or 100 related rows.
+ * <p>
+ * Every call starts from an empty persistence context and second-level cache,
+ * so each association the response reads has to come from the database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional
+class EndpointQueryCountIntegrationTest {
+
+    @RegisterExtension
+    QueryCountExtension queryCount = new QueryCountExtension();
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private QueryStatsFilter queryStatsFilter;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(queryStatsFilter)
+                .alwaysDo(queryCount)
+                .build();
+    }
+
+    @ParameterizedTest(name = "{0} accounts")
+    @ValueSource(ints = { 1, 10, 100 })
+    @MaxQueries(1)
+    void getAllUsers_QueryCountDoesNotGrowWithAccounts(int size) throws Exception {
+        seed(size);
+
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(size + 1));
+    }
+
+    @ParameterizedTest(name = "{0} accounts")
+    @ValueSource(ints = { 1, 10, 100 })
+    @MaxQueries(1)
+    void getAllAccounts_QueryCountDoesNotGrowWithAccounts(int size) throws Exception {
+        seed(size);
+
+        mockMvc.perform(get("/accounts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(size))
+                .andExpect(jsonPath("$[0].users.length()").value(2));
+    }
+
+    @ParameterizedTest(name = "{0} accounts")
+    @ValueSource(ints = { 1, 10, 100 })
+    @MaxQueries(1)
+    void getUserBalance_QueryCountDoesNotGrowWithAccounts(int size) throws Exception {
+        Long holderId = seed(size);
+
+        mockMvc.perform(get("/users/{id}/balance", holderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts.length()").value(size));
+    }
+
+    /**
+     * Creates {@code size} users owning one account each and one more user
+     * authorized on all of them, then empties every cache.
+     *
+     * @return id of the user authorized on every account
+     */
+    private Long seed(int size) {
+        UserResponse holder = userService.createUser(new CreateUserRequest("Holder", "holder@example.com"));
+        List<AccountUserLinkRequest> links = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            UserResponse owner = userService.createUser(
+                    new CreateUserRequest("Owner " + i, "owner" + i + "@example.com"));
+            AccountResponse account = accountService.createAccount(
+                    new CreateAccountRequest("ACC-" + i, new BigDecimal("10.00"), owner.getId()));
+            links.add(new AccountUserLinkRequest(account.getId(), holder.getId()));
+        }
+        accountService.addAuthorizedUsers(links);
+
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        return holder.getId();
+    }
+}
@@ -175,6 +175,32 @@ class MetricsControllerIntegrationTest {
                 .andExpect(jsonPath("$.condition", is("balance > 1000 AND balance < 100")));
     }
 
+    // ========== CACHE METRICS TESTS ==========
+
+    @Test
+    void getCacheMetrics_ReturnsRegionStatistics() throws Exception {
+        mockMvc.perform(get("/metrics/cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statisticsEnabled", is(true)))
+                .andExpect(jsonPath("$.hitCount", greaterThanOrEqualTo(0)))
+                .andExpect(jsonPath("$.regions[*].region", hasItems("users", "accounts", "account-users")));
+    }
+
+    // ========== CONNECTION POOL METRICS TESTS ==========
+
+    @Test
+    void getConnectionPoolMetrics_ReturnsPoolsAndServiceMethods() throws Exception {
+        mockMvc.perform(get("/metrics/accounts").param("greaterThan", "100"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/metrics/connection-pool"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pools", not(empty())))
+                .andExpect(jsonPath("$.pools[0].maximumPoolSize", greaterThan(0)))
+                .andExpect(jsonPath("$.pools[0].acquire.count", greaterThan(0)))
+                .andExpect(jsonPath("$.methods[*].method", hasItem("AccountService.getAccountMetrics")));
+    }
+
     // ========== VALIDATION TESTS ==========
 
     @Test
@@ -12,6 +12,8 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import com.bank.dto.request.BulkCreateUsersRequest;
+import com.bank.dto.request.BulkDeleteRequest;
 import com.bank.dto.request.CreateAccountRequest;
 import com.bank.dto.request.CreateUserRequest;
 import com.bank.dto.request.UpdateUserRequest;
@@ -25,6 +27,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -147,6 +151,68 @@ class UserControllerIntegrationTest {
                         String.format(ErrorMessages.USER_ALREADY_EXISTS, "john.doe@example.com")));
     }
 
+    // ========== BULK CREATE USERS ==========
+
+    @Test
+    void createUsers_ValidBatch_CreatesAllUsers() throws Exception {
+        BulkCreateUsersRequest request = new BulkCreateUsersRequest(List.of(
+                new CreateUserRequest("John Doe", "john.doe@example.com"),
+                new CreateUserRequest("Jane Smith", "JANE@EXAMPLE.COM")));
+
+        mockMvc.perform(post("/users/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.results[0].id").exists())
+                .andExpect(jsonPath("$.results[1].id").exists());
+
+        mockMvc.perform(get("/users"))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void createUsers_MixedBatch_ReportsFailuresPerItem() throws Exception {
+        userService.createUser(testCreateUserRequest);
+
+        BulkCreateUsersRequest request = new BulkCreateUsersRequest(List.of(
+                new CreateUserRequest("Existing", "JOHN.DOE@example.com"),
+                new CreateUserRequest("New User", "new@example.com"),
+                new CreateUserRequest("Duplicate", "new@example.com"),
+                new CreateUserRequest("Invalid", "invalid-email")));
+
+        mockMvc.perform(post("/users/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(4))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.results[0].success").value(false))
+                .andExpect(jsonPath("$.results[0].message").value(
+                        String.format(ErrorMessages.USER_ALREADY_EXISTS, "john.doe@example.com")))
+                .andExpect(jsonPath("$.results[1].success").value(true))
+                .andExpect(jsonPath("$.results[2].message").value(
+                        String.format(ErrorMessages.DUPLICATE_EMAIL_IN_REQUEST, "new@example.com")))
+                .andExpect(jsonPath("$.results[3].success").value(false));
+    }
+
+    @Test
+    void createUsers_TooManyItems_ReturnsBadRequest() throws Exception {
+        List<CreateUserRequest> users = new ArrayList<>();
+        for (int i = 0; i <= BulkCreateUsersRequest.MAX_ITEMS; i++) {
+            users.add(new CreateUserRequest("User " + i, "user" + i + "@example.com"));
+        }
+
+        mockMvc.perform(post("/users/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkCreateUsersRequest(users))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.users").exists());
+    }
+
     // ========== EMAIL CASE SENSITIVITY TESTS ==========
 
     @Test
@@ -314,6 +380,34 @@ class UserControllerIntegrationTest {
                         String.format(ErrorMessages.USER_HAS_ACCOUNTS, createdUser.getId())));
     }
 
+    @Test
+    void deleteUsers_MixedBatch_ReportsFailuresPerItem() throws Exception {
+        UserResponse withoutAccounts = userService.createUser(testCreateUserRequest);
+        UserResponse withAccounts = userService.createUser(new CreateUserRequest("Jane Smith", "jane@example.com"));
+        accountService.createAccount(new CreateAccountRequest("ACC-001", new BigDecimal("1000.00"),
+                withAccounts.getId()));
+
+        BulkDeleteRequest request = new BulkDeleteRequest(List.of(withoutAccounts.getId(), withAccounts.getId(),
+                999999L, withoutAccounts.getId()));
+
+        mockMvc.perform(post("/users/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(4))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[1].message").value(
+                        String.format(ErrorMessages.USER_HAS_ACCOUNTS, withAccounts.getId())))
+                .andExpect(jsonPath("$.results[2].message").value(
+                        String.format(ErrorMessages.USER_NOT_FOUND, 999999L)))
+                .andExpect(jsonPath("$.results[3].message").value(
+                        String.format(ErrorMessages.DUPLICATE_ID_IN_REQUEST, withoutAccounts.getId())));
+
+        mockMvc.perform(get("/users/" + withoutAccounts.getId()))
+                .andExpect(status().isNotFound());
+    }
+
     // ========== GET USER BALANCE ==========
 
     @Test
@@ -0,0 +1,61 @@
+package com.bank.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica")
+    void shouldRouteReadOnlyToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.REPLICA);
+        assertThat(dataSource.getReplicaConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should route read-write transactions and non-transactional work to the primary")
+    void shouldRouteWritesToPrimary() {
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.PRIMARY);
+        assertThat(dataSource.getPrimaryConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep read-only transactions on the primary while the override is set")
+    void shouldHonourReadYourWritesOverride() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingContext.requirePrimary();
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRoute.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Should carry the override to wrapped tasks on other threads")
+    void shouldPropagateOverrideToWrappedTask() throws InterruptedException {
+        ReplicaRoutingContext.requirePrimary();
+        AtomicBoolean seen = new AtomicBoolean();
+        Runnable task = ReplicaRoutingContext.wrap(() -> seen.set(ReplicaRoutingContext.isPrimaryRequired()));
+
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+
+        assertThat(seen).isTrue();
+    }
+}
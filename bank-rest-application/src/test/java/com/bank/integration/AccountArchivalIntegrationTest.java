@@ -0,0 +1,124 @@
+package com.bank.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.exception.AccountAlreadyExistsException;
+import com.bank.exception.AccountNotFoundException;
+import com.bank.exception.UserHasAccountsException;
+import com.bank.repository.AccountRepository;
+import com.bank.service.AccountArchiveService;
+import com.bank.service.AccountService;
+import com.bank.service.UserService;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional
+class AccountArchivalIntegrationTest {
+
+    private static final Duration DORMANT_AFTER = Duration.ofDays(365);
+
+    @Autowired
+    private AccountArchiveService accountArchiveService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private UserResponse owner;
+    private UserResponse authorized;
+    private AccountResponse dormant;
+    private AccountResponse funded;
+
+    @BeforeEach
+    void setUp() {
+        owner = userService.createUser(new CreateUserRequest("John Doe", "john@example.com"));
+        authorized = userService.createUser(new CreateUserRequest("Jane Smith", "jane@example.com"));
+        dormant = accountService.createAccount(new CreateAccountRequest("ACC-001", BigDecimal.ZERO, owner.getId()));
+        funded = accountService.createAccount(
+                new CreateAccountRequest("ACC-002", new BigDecimal("100.00"), owner.getId()));
+        accountService.addAuthorizedUser(dormant.getId(), authorized.getId());
+
+        // Both accounts were last touched before the dormancy period
+        accountRepository.flush();
+        new JdbcTemplate(dataSource).update("UPDATE accounts SET last_activity_at = ?",
+                Timestamp.from(Instant.now().minus(DORMANT_AFTER).minus(Duration.ofDays(30))));
+    }
+
+    @Test
+    void archiveDormantAccounts_MovesOnlyZeroBalanceAccounts() {
+        int archived = accountArchiveService.archiveDormantAccounts(Instant.now().minus(DORMANT_AFTER), 100);
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(accountRepository.existsById(dormant.getId())).isFalse();
+        assertThat(accountRepository.existsById(funded.getId())).isTrue();
+    }
+
+    @Test
+    void archiveDormantAccounts_RecentActivity_KeepsAccount() {
+        accountService.updateBalance(dormant.getId(), BigDecimal.ONE);
+        accountRepository.flush();
+        accountService.updateBalance(dormant.getId(), BigDecimal.ZERO);
+        accountRepository.flush();
+
+        int archived = accountArchiveService.archiveDormantAccounts(Instant.now().minus(DORMANT_AFTER), 100);
+
+        assertThat(archived).isZero();
+        assertThat(accountRepository.existsById(dormant.getId())).isTrue();
+    }
+
+    @Test
+    void findById_ArchivedAccount_FallsBackToArchive() {
+        accountArchiveService.archiveDormantAccounts(Instant.now().minus(DORMANT_AFTER), 100);
+
+        AccountResponse found = accountService.findById(dormant.getId());
+
+        assertThat(found.getAccountNumber()).isEqualTo("ACC-001");
+        assertThat(found.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(found.getUsers()).extracting("userId")
+                .containsExactlyInAnyOrder(owner.getId(), authorized.getId());
+    }
+
+    @Test
+    void archivedAccount_IsReadOnlyAndKeepsItsNumberAndUsers() {
+        accountArchiveService.archiveDormantAccounts(Instant.now().minus(DORMANT_AFTER), 100);
+
+        assertThatThrownBy(() -> accountService.updateBalance(dormant.getId(), BigDecimal.ONE))
+                .isInstanceOf(AccountNotFoundException.class);
+        // A failed write does not hide the archived account from reads
+        assertThat(accountService.findById(dormant.getId()).getId()).isEqualTo(dormant.getId());
+        assertThatThrownBy(() -> accountService.createAccount(
+                new CreateAccountRequest("ACC-001", BigDecimal.ZERO, owner.getId())))
+                .isInstanceOf(AccountAlreadyExistsException.class);
+        assertThatThrownBy(() -> userService.deleteUser(authorized.getId()))
+                .isInstanceOf(UserHasAccountsException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.bank.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.bank.datasource.ReadWriteRoutingDataSource;
+import com.bank.datasource.ReadYourWritesFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs with the replica profile against its own database. The uniqueness
+ * filter rebuild is postponed so no background read skews the counters.
+ */
+@SpringBootTest(properties = {
+        "bank.uniqueness-filter.initial-delay=PT1H",
+        "spring.datasource.url=jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE" })
+@AutoConfigureMockMvc
+@ActiveProfiles({ "test", "replica" })
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Test
+    void getAllUsers_NoSession_ReadsFromReplica() throws Exception {
+        long replicaBefore = routingDataSource.getReplicaConnections();
+
+        mockMvc.perform(get("/users")).andExpect(status().isOk());
+
+        assertThat(routingDataSource.getReplicaConnections()).isGreaterThan(replicaBefore);
+    }
+
+    @Test
+    void getAllUsers_AfterWriteInSameSession_ReadsFromPrimary() throws Exception {
+        mockMvc.perform(post("/users")
+                .header(ReadYourWritesFilter.SESSION_HEADER, "session-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Replica User\",\"email\":\"replica.user@example.com\"}"))
+                .andExpect(status().isCreated());
+        long primaryBefore = routingDataSource.getPrimaryConnections();
+        long replicaBefore = routingDataSource.getReplicaConnections();
+
+        mockMvc.perform(get("/users").header(ReadYourWritesFilter.SESSION_HEADER, "session-1"))
+                .andExpect(status().isOk());
+
+        assertThat(routingDataSource.getPrimaryConnections()).isGreaterThan(primaryBefore);
+        assertThat(routingDataSource.getReplicaConnections()).isEqualTo(replicaBefore);
+    }
+
+    @Test
+    void getAllUsers_AfterFailedWriteInSameSession_ReadsFromReplica() throws Exception {
+        mockMvc.perform(post("/users")
+                .header(ReadYourWritesFilter.SESSION_HEADER, "session-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"\",\"email\":\"not-an-email\"}"))
+                .andExpect(status().isBadRequest());
+        long replicaBefore = routingDataSource.getReplicaConnections();
+
+        mockMvc.perform(get("/users").header(ReadYourWritesFilter.SESSION_HEADER, "session-2"))
+                .andExpect(status().isOk());
+
+        assertThat(routingDataSource.getReplicaConnections()).isGreaterThan(replicaBefore);
+    }
+}
@@ -0,0 +1,172 @@
+package com.bank.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.bank.domain.Account;
+import com.bank.domain.User;
+import com.bank.dto.request.AccountUserLinkRequest;
+import com.bank.dto.request.BulkAuthorizedUsersRequest;
+import com.bank.dto.request.BulkDeleteRequest;
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.service.AccountService;
+import com.bank.service.UserService;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Every write path that bypasses entity state changes (native bulk statements,
+ * the import and set-based deletes) must leave no stale second-level cache
+ * entry behind. Each test reads through the cache, writes in its own
+ * transaction and reads again. Not transactional, so it runs on its own
+ * database.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2-cache-freshness;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE" })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecondLevelCacheFreshnessIntegrationTest {
+
+    private static int fixtures;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UserResponse owner;
+    private UserResponse other;
+    private AccountResponse account;
+
+    @BeforeEach
+    void setUp() {
+        int fixture = ++fixtures;
+        owner = userService.createUser(new CreateUserRequest("Owner", "owner" + fixture + "@example.com"));
+        other = userService.createUser(new CreateUserRequest("Other", "other" + fixture + "@example.com"));
+        account = accountService.createAccount(
+                new CreateAccountRequest("L2-" + fixture, BigDecimal.ZERO, owner.getId()));
+    }
+
+    @Test
+    void bulkAddAuthorizedUsers_NextReadsSeeTheLink() throws Exception {
+        readAccount(1);
+        readUser(other, 0);
+
+        mockMvc.perform(post("/accounts/authorized-users/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkAuthorizedUsersRequest(
+                        List.of(new AccountUserLinkRequest(account.getId(), other.getId()))))))
+                .andExpect(status().isOk());
+
+        readAccount(2);
+        readUser(other, 1);
+    }
+
+    @Test
+    void bulkRemoveAuthorizedUsers_NextReadsMissTheLink() throws Exception {
+        accountService.addAuthorizedUser(account.getId(), other.getId());
+        readAccount(2);
+        readUser(other, 1);
+
+        mockMvc.perform(post("/accounts/authorized-users/bulk-remove")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkAuthorizedUsersRequest(
+                        List.of(new AccountUserLinkRequest(account.getId(), other.getId()))))))
+                .andExpect(status().isOk());
+
+        readAccount(1);
+        readUser(other, 0);
+    }
+
+    @Test
+    void importAccounts_NextReadsSeeTheImportedAccount() throws Exception {
+        readUser(owner, 1);
+        readUser(other, 0);
+
+        mockMvc.perform(post("/accounts/import")
+                .contentType("text/csv")
+                .content("IMPORTED-" + fixtures + ",1.00," + owner.getEmail() + "," + other.getEmail() + "\n"))
+                .andExpect(status().isOk());
+
+        readUser(owner, 2);
+        readUser(other, 1);
+    }
+
+    @Test
+    void deleteAccount_NextReadsMissTheAccount() throws Exception {
+        accountService.addAuthorizedUser(account.getId(), other.getId());
+        readAccount(2);
+        readUser(owner, 1);
+
+        mockMvc.perform(delete("/accounts/" + account.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(get("/accounts/" + account.getId())).andExpect(status().isNotFound());
+        readUser(owner, 0);
+        readUser(other, 0);
+    }
+
+    @Test
+    void bulkDeleteAccounts_NextReadsMissTheAccount() throws Exception {
+        readAccount(1);
+        readUser(owner, 1);
+
+        mockMvc.perform(post("/accounts/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkDeleteRequest(List.of(account.getId())))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/accounts/" + account.getId())).andExpect(status().isNotFound());
+        readUser(owner, 0);
+    }
+
+    @Test
+    void deleteUser_NextReadMissesTheUser() throws Exception {
+        readUser(other, 0);
+
+        mockMvc.perform(delete("/users/" + other.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(get("/users/" + other.getId())).andExpect(status().isNotFound());
+    }
+
+    private void readAccount(int users) throws Exception {
+        mockMvc.perform(get("/accounts/" + account.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(users));
+        assertThat(entityManagerFactory.getCache().contains(Account.class, account.getId())).isTrue();
+    }
+
+    private void readUser(UserResponse user, int accounts) throws Exception {
+        mockMvc.perform(get("/users/" + user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts.length()").value(accounts));
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isTrue();
+    }
+}
@@ -0,0 +1,102 @@
+package com.bank.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.exception.AccountNotFoundException;
+import com.bank.service.AccountService;
+import com.bank.service.AccountWriteCoordinator;
+import com.bank.service.UserService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Not transactional: updates are applied by the writer threads, which only
+ * see committed data, so the fixtures are committed and removed after each
+ * test. Uses its own database so its context cannot drop the shared tables.
+ */
+@SpringBootTest(properties = {
+        "bank.account-writes.mode=serialized",
+        "bank.account-writes.shards=2",
+        "spring.datasource.url=jdbc:h2:mem:serialized-writes;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE" })
+@ActiveProfiles("test")
+class SerializedBalanceWritesIntegrationTest {
+
+    @Autowired
+    private AccountWriteCoordinator accountWriteCoordinator;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountService accountService;
+
+    private UserResponse testUser;
+    private AccountResponse testAccount;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userService.createUser(new CreateUserRequest("Hot Account", "hot.account@example.com"));
+        testAccount = accountService.createAccount(
+                new CreateAccountRequest("HOT-001", BigDecimal.ZERO, testUser.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountService.updateBalance(testAccount.getId(), BigDecimal.ZERO);
+        accountService.deleteAccount(testAccount.getId());
+        userService.deleteUser(testUser.getId());
+    }
+
+    @Test
+    void updateBalance_ConcurrentUpdates_AppliesEveryUpdateThroughTheWriter() throws Exception {
+        int updates = 200;
+        long drainsBefore = accountWriteCoordinator.getDrains();
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<AccountResponse>> results = new ArrayList<>();
+            for (int i = 1; i <= updates; i++) {
+                BigDecimal balance = BigDecimal.valueOf(i);
+                results.add(callers.submit(() -> accountWriteCoordinator.updateBalance(testAccount.getId(), balance)));
+            }
+
+            Set<BigDecimal> returned = new HashSet<>();
+            for (Future<AccountResponse> result : results) {
+                AccountResponse response = result.get();
+                assertThat(response.getId()).isEqualTo(testAccount.getId());
+                returned.add(response.getBalance());
+            }
+            assertThat(returned).hasSize(updates);
+        } finally {
+            callers.shutdownNow();
+        }
+
+        BigDecimal finalBalance = accountService.findById(testAccount.getId()).getBalance();
+        assertThat(finalBalance.intValue()).isBetween(1, updates);
+        assertThat(accountWriteCoordinator.getDrains() - drainsBefore).isBetween(1L, (long) updates);
+    }
+
+    @Test
+    void updateBalance_MissingAccount_ThrowsNotFound() {
+        assertThatThrownBy(() -> accountWriteCoordinator.updateBalance(Long.MAX_VALUE, BigDecimal.ONE))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+}
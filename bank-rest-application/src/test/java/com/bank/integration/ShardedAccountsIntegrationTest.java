@@ -0,0 +1,165 @@
+package com.bank.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.response.AccountResponse;
+import com.bank.dto.response.UserResponse;
+import com.bank.service.UserService;
+import com.bank.sharding.AccountShards;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs against three in-memory shard databases of its own. Not transactional:
+ * the shards have their own transactions, so fixtures are removed after
+ * each test.
+ */
+@SpringBootTest(properties = {
+        "bank.sharding.enabled=true",
+        "bank.sharding.shards=3",
+        "bank.sharding.url-pattern=jdbc:h2:mem:sharding-test-%d;DB_CLOSE_DELAY=-1",
+        "spring.datasource.url=jdbc:h2:mem:sharding-main;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE" })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ShardedAccountsIntegrationTest {
+
+    private static final int ACCOUNTS = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountShards accountShards;
+
+    private UserResponse testUser;
+    private final List<AccountResponse> accounts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testUser = userService.createUser(new CreateUserRequest("Shard User", "shard.user@example.com"));
+        for (int i = 1; i <= ACCOUNTS; i++) {
+            String body = mockMvc.perform(post("/sharded/accounts")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                            new CreateAccountRequest("SHARD-" + i, BigDecimal.valueOf(i * 100L), testUser.getId()))))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            accounts.add(objectMapper.readValue(body, AccountResponse.class));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AccountResponse account : accounts) {
+            mockMvc.perform(patch("/sharded/accounts/" + account.getId() + "/balance")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"balance\": 0}"));
+            mockMvc.perform(delete("/sharded/accounts/" + account.getId()));
+        }
+        userService.deleteUser(testUser.getId());
+    }
+
+    @Test
+    void createAccount_ManyNumbers_SpreadsAcrossShards() {
+        Set<Long> shards = new HashSet<>();
+        for (AccountResponse account : accounts) {
+            shards.add(Math.floorMod(account.getId(), (long) accountShards.size()));
+        }
+        assertThat(shards).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void getAccount_ByIdAndNumber_ReadsFromOwningShard() throws Exception {
+        AccountResponse account = accounts.get(4);
+
+        mockMvc.perform(get("/sharded/accounts/" + account.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value("SHARD-5"))
+                .andExpect(jsonPath("$.users[0].userEmail").value("shard.user@example.com"))
+                .andExpect(jsonPath("$.users[0].role").value("PRIMARY"));
+        mockMvc.perform(get("/sharded/accounts/by-number/SHARD-5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(account.getId()));
+    }
+
+    @Test
+    void createAccount_DuplicateNumber_ReturnsConflict() throws Exception {
+        mockMvc.perform(post("/sharded/accounts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CreateAccountRequest("SHARD-1", BigDecimal.ONE, testUser.getId()))))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void getUserBalance_AccountsOnSeveralShards_SumsAllShards() throws Exception {
+        // 100 + 200 + ... + 1200
+        mockMvc.perform(get("/sharded/users/" + testUser.getId() + "/balance"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalBalance").value(7800.0))
+                .andExpect(jsonPath("$.accounts.length()").value(ACCOUNTS));
+    }
+
+    @Test
+    void getAccountMetrics_Range_CountsAllShards() throws Exception {
+        mockMvc.perform(get("/sharded/metrics/accounts")
+                .param("greaterThan", "250")
+                .param("lessThan", "1050"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(8));
+    }
+
+    @Test
+    void getAccount_UnknownId_ReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/sharded/accounts/999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteUser_HoldsShardedAccounts_ReturnsConflict() throws Exception {
+        mockMvc.perform(delete("/users/" + testUser.getId()))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void deleteAccount_NonZeroBalance_ReturnsConflictAndKeepsAccount() throws Exception {
+        AccountResponse account = accounts.get(0);
+
+        mockMvc.perform(delete("/sharded/accounts/" + account.getId()))
+                .andExpect(status().isConflict());
+        mockMvc.perform(get("/sharded/accounts/" + account.getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deleteAccount_UnknownId_ReturnsNotFound() throws Exception {
+        mockMvc.perform(delete("/sharded/accounts/999999"))
+                .andExpect(status().isNotFound());
+    }
+}
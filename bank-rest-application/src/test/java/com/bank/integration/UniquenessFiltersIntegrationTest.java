@@ -0,0 +1,64 @@
+package com.bank.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bank.cache.UniquenessFilters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UniquenessFiltersIntegrationTest {
+
+    @Autowired
+    private UniquenessFilters uniquenessFilters;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        uniquenessFilters.rebuild();
+    }
+
+    @Test
+    void recordEmail_VisibleToOwnTransactionAndRecordedOnCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            uniquenessFilters.recordEmail("committed@example.com");
+            assertThat(uniquenessFilters.mightContainEmail("committed@example.com")).isTrue();
+        });
+
+        assertThat(uniquenessFilters.mightContainEmail("committed@example.com")).isTrue();
+    }
+
+    @Test
+    void recordAccountNumber_RolledBackTransaction_LeavesNothingBehind() {
+        transactionTemplate.executeWithoutResult(status -> {
+            uniquenessFilters.recordAccountNumber("ROLLED-BACK-001");
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(uniquenessFilters.mightContainAccountNumber("ROLLED-BACK-001")).isFalse();
+        });
+
+        assertThat(uniquenessFilters.mightContainAccountNumber("ROLLED-BACK-001")).isFalse();
+    }
+
+    @Test
+    void recordEmail_OutsideTransaction_RecordsImmediately() {
+        uniquenessFilters.recordEmail("direct@example.com");
+
+        assertThat(uniquenessFilters.mightContainEmail("direct@example.com")).isTrue();
+    }
+}
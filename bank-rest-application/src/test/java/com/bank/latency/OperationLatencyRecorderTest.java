@@ -0,0 +1,83 @@
+package com.bank.latency;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bank.dto.response.LatencyResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("OperationLatencyRecorder Tests")
+class OperationLatencyRecorderTest {
+
+    @Test
+    @DisplayName("Should report the last interval and the distribution since startup")
+    void shouldRollOverIntervals() {
+        // Given
+        OperationLatencyRecorder recorder = new OperationLatencyRecorder(3);
+        for (long millis = 1; millis <= 100; millis++) {
+            recorder.record("GET /users", millis * 1_000_000);
+        }
+        recorder.rollover();
+        recorder.record("GET /users", 500_000_000);
+        recorder.rollover();
+
+        // When
+        LatencyResponse.OperationLatency latency = recorder.getLatency().getOperations().get(0);
+
+        // Then
+        assertThat(latency.getOperation()).isEqualTo("GET /users");
+        assertThat(latency.getInterval().getCount()).isEqualTo(1);
+        assertThat(latency.getInterval().getP50Ms()).isCloseTo(500, within(0.5));
+        assertThat(latency.getTotal().getCount()).isEqualTo(101);
+        assertThat(latency.getTotal().getP50Ms()).isCloseTo(51, within(0.1));
+        assertThat(latency.getTotal().getP99Ms()).isCloseTo(100, within(0.1));
+        assertThat(latency.getTotal().getMaxMs()).isCloseTo(500, within(0.5));
+    }
+
+    @Test
+    @DisplayName("Should export histograms that merge across nodes")
+    void shouldExportMergeableHistograms() {
+        // Given
+        OperationLatencyRecorder first = new OperationLatencyRecorder(3);
+        OperationLatencyRecorder second = new OperationLatencyRecorder(3);
+        for (long millis = 1; millis <= 50; millis++) {
+            first.record("GET /users/{id}", millis * 1_000_000);
+            second.record("GET /users/{id}", (millis + 50) * 1_000_000);
+        }
+        second.record("UserService.findById", 2_000_000);
+        first.rollover();
+        second.rollover();
+
+        // When
+        Map<String, Histogram> merged = new HashMap<>();
+        merge(first, merged);
+        merge(second, merged);
+
+        // Then
+        Histogram endpoint = merged.get("GET_/users/{id}");
+        assertThat(endpoint.getTotalCount()).isEqualTo(100);
+        assertThat(endpoint.getValueAtPercentile(50) / 1e6).isCloseTo(50, within(0.1));
+        assertThat(endpoint.getMaxValue() / 1e6).isCloseTo(100, within(0.1));
+        assertThat(merged.get("UserService.findById").getTotalCount()).isEqualTo(1);
+    }
+
+    private static void merge(OperationLatencyRecorder recorder, Map<String, Histogram> merged) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.writeLog(out, false);
+        HistogramLogReader reader = new HistogramLogReader(new ByteArrayInputStream(out.toByteArray()));
+        EncodableHistogram histogram;
+        while ((histogram = reader.nextIntervalHistogram()) != null) {
+            merged.computeIfAbsent(histogram.getTag(), tag -> new Histogram(3)).add((Histogram) histogram);
+        }
+    }
+}
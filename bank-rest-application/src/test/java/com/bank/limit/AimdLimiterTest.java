@@ -0,0 +1,130 @@
+package com.bank.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AimdLimiter Tests")
+class AimdLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    @DisplayName("Should reject requests over the limit until a permit is released")
+    void shouldRejectOverLimit() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, THRESHOLD, 0.5);
+        long now = System.nanoTime();
+
+        // When / Then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        limiter.release(now, now + FAST);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.getAccepted()).isEqualTo(3);
+        assertThat(limiter.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while fast requests keep it busy")
+    void shouldIncreaseAdditively() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(4, 1, 6, THRESHOLD, 0.5);
+        long start = System.nanoTime();
+
+        // When
+        for (int round = 0; round < 100; round++) {
+            int admitted = 0;
+            while (limiter.tryAcquire()) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(start, start + FAST);
+            }
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should not grow the limit while it is mostly unused")
+    void shouldNotIncreaseWhenIdle() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(10, 1, 100, THRESHOLD, 0.5);
+        long start = System.nanoTime();
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire();
+            limiter.release(start, start + FAST);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should back off once per round of slow requests and never below the minimum")
+    void shouldDecreaseMultiplicatively() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(16, 3, 16, THRESHOLD, 0.5);
+        long start = System.nanoTime() + 1;
+        for (int i = 0; i < 16; i++) {
+            limiter.tryAcquire();
+        }
+
+        // When every request of the round is slow
+        for (int i = 0; i < 16; i++) {
+            limiter.release(start, start + SLOW);
+        }
+
+        // Then only the first one lowers the limit
+        assertThat(limiter.getLimit()).isEqualTo(8);
+
+        // When later rounds are slow too
+        for (int round = 1; round <= 5; round++) {
+            long roundStart = start + round * 2 * SLOW;
+            limiter.tryAcquire();
+            limiter.release(roundStart, roundStart + SLOW);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should back off when a fast request fails")
+    void shouldDecreaseOnFailure() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(10, 1, 10, THRESHOLD, 0.5);
+        long start = System.nanoTime() + 1;
+        limiter.tryAcquire();
+
+        // When
+        limiter.release(start, start + FAST, true);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid parameters")
+    void shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> new AimdLimiter(0, 0, 10, THRESHOLD, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdLimiter(20, 1, 10, THRESHOLD, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdLimiter(5, 1, 10, THRESHOLD, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
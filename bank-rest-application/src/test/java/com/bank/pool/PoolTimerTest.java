@@ -0,0 +1,47 @@
+package com.bank.pool;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PoolTimer Tests")
+class PoolTimerTest {
+
+    @Test
+    @DisplayName("Should keep the distribution since startup across snapshots")
+    void shouldAccumulateAcrossSnapshots() {
+        // Given
+        PoolTimer timer = new PoolTimer();
+        timer.record(1_000_000);
+        timer.snapshot();
+
+        // When
+        timer.record(2_000_000);
+        Histogram total = timer.snapshot();
+
+        // Then
+        assertThat(total.getTotalCount()).isEqualTo(2);
+        assertThat(total.getMaxValue()).isBetween(2_000_000L, 2_002_000L);
+    }
+
+    @Test
+    @DisplayName("Should count only the values recorded since an earlier snapshot")
+    void shouldComputeWindows() {
+        // Given
+        PoolTimer timer = new PoolTimer();
+        timer.record(10_000_000);
+        Histogram earlier = timer.snapshot();
+
+        // When
+        timer.record(1_000);
+        timer.record(2_000);
+        Histogram window = PoolTimer.window(timer.snapshot(), earlier);
+
+        // Then
+        assertThat(window.getTotalCount()).isEqualTo(2);
+        assertThat(window.getMaxValue()).isLessThan(2_010);
+        assertThat(earlier.getTotalCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.bank.querystats;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultHandler;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Fails a test annotated with {@link MaxQueries} as soon as one of its MockMvc
+ * calls prepares more SQL statements than allowed.
+ * <p>
+ * Statements are counted per request by {@link QueryStatsFilter}, so the
+ * MockMvc instance must include that filter and this extension as a result
+ * handler:
+ * <pre>
+ * &#64;RegisterExtension
+ * QueryCountExtension queryCount = new QueryCountExtension();
+ *
+ * mockMvc = MockMvcBuilders.webAppContextSetup(context)
+ *         .addFilters(queryStatsFilter).alwaysDo(queryCount).build();
+ * </pre>
+ */
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback, ResultHandler {
+
+    private Integer maxQueries;
+    private int lastStatements = -1;
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        MaxQueries limit = context.getRequiredTestMethod().getAnnotation(MaxQueries.class);
+        if (limit == null) {
+            limit = context.getRequiredTestClass().getAnnotation(MaxQueries.class);
+        }
+        maxQueries = limit != null ? limit.value() : null;
+        lastStatements = -1;
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        maxQueries = null;
+    }
+
+    @Override
+    public void handle(MvcResult result) {
+        HttpServletRequest request = result.getRequest();
+        Object stats = request.getAttribute(RequestQueryStats.ATTRIBUTE);
+        if (!(stats instanceof RequestQueryStats queryStats)) {
+            throw new IllegalStateException("No query statistics on the request: add QueryStatsFilter to MockMvc");
+        }
+        lastStatements = queryStats.getStatements();
+        if (maxQueries != null && lastStatements > maxQueries) {
+            throw new AssertionError(String.format("%s %s prepared %d SQL statements, @MaxQueries allows %d",
+                    request.getMethod(), request.getRequestURI(), lastStatements, maxQueries));
+        }
+    }
+
+    /**
+     * @return statements prepared by the last MockMvc call, or -1 before the
+     *         first call of the current test
+     */
+    public int getLastStatements() {
+        return lastStatements;
+    }
+}
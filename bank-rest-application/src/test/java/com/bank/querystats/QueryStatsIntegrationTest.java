@@ -0,0 +1,95 @@
+package com.bank.querystats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.bank.dto.request.CreateAccountRequest;
+import com.bank.dto.request.CreateUserRequest;
+import com.bank.dto.response.UserResponse;
+import com.bank.service.AccountService;
+import com.bank.service.UserService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional
+class QueryStatsIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private QueryStatsFilter queryStatsFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountService accountService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).addFilters(queryStatsFilter).build();
+        UserResponse user = userService.createUser(new CreateUserRequest("John Doe", "john@example.com"));
+        accountService.createAccount(new CreateAccountRequest("ACC-001", new BigDecimal("10.00"), user.getId()));
+        accountService.createAccount(new CreateAccountRequest("ACC-002", new BigDecimal("20.00"), user.getId()));
+    }
+
+    @Test
+    void listAccounts_ReportsQueryStatsInHeaders() throws Exception {
+        MvcResult result = mockMvc.perform(get("/accounts"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(QueryStatsResponseHeaders.ROWS_HEADER))
+                .andExpect(header().exists(QueryStatsResponseHeaders.ENTITY_LOADS_HEADER))
+                .andExpect(header().exists(QueryStatsResponseHeaders.TIME_HEADER))
+                .andReturn();
+
+        String statements = result.getResponse().getHeader(QueryStatsResponseHeaders.STATEMENTS_HEADER);
+        assertThat(Integer.parseInt(statements)).isPositive();
+        String rows = result.getResponse().getHeader(QueryStatsResponseHeaders.ROWS_HEADER);
+        assertThat(Long.parseLong(rows)).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void listAccounts_RecordsHistogramsPerMapping() throws Exception {
+        long statementsBefore = count("bank.request.db.statements");
+        long rowsBefore = count("bank.request.db.rows");
+
+        mockMvc.perform(get("/accounts")).andExpect(status().isOk());
+
+        assertThat(count("bank.request.db.statements")).isEqualTo(statementsBefore + 1);
+        assertThat(count("bank.request.db.rows")).isEqualTo(rowsBefore + 1);
+        Timer time = meterRegistry.find("bank.request.db.time").tags("method", "GET", "uri", "/accounts").timer();
+        assertThat(time).isNotNull();
+    }
+
+    private long count(String name) {
+        DistributionSummary summary = meterRegistry.find(name).tags("method", "GET", "uri", "/accounts").summary();
+        return summary != null ? summary.count() : 0;
+    }
+}
@@ -0,0 +1,329 @@
+package com.bank.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.bank.domain.AccountUserRole;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the H2 execution plan of every query declared in the repositories.
+ * <p>
+ * Each query is run once against seeded tables while the SQL Hibernate sends
+ * is recorded, then that SQL is passed to {@code EXPLAIN} with the same
+ * arguments. A query whose plan falls back to a table scan, or stops using
+ * the index it was written for, fails here instead of in production.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.bank.repository.QueryPlanTest$RecordingStatementInspector")
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    private static final int USERS = 500;
+    private static final int ACCOUNTS = 2000;
+    private static final int ARCHIVED_ACCOUNTS = 200;
+
+    private static final String TABLE_SCAN = ".tableScan";
+    private static final String BALANCE_INDEX = "IDX_ACCOUNTS_BALANCE_ACTIVITY";
+    private static final String USER_ID_INDEX = "IDX_ACCOUNT_USERS_USER_ID";
+
+    /**
+     * Queries with a plan check below. A new repository query fails
+     * {@link #everyRepositoryQuery_HasPlanCheck()} until it is added here
+     * together with its check.
+     */
+    private static final Set<String> CHECKED_QUERIES = Set.of(
+            "AccountRepository.findByAccountNumber",
+            "AccountRepository.findExistingAccountNumbers",
+            "AccountRepository.streamAllAccountNumbers",
+            "AccountRepository.findAccountsByUserId",
+            "AccountRepository.findAccountsByUserIdAndRole",
+            "AccountRepository.countByBalanceGreaterThan",
+            "AccountRepository.countByBalanceLessThan",
+            "AccountRepository.countByBalanceBetween",
+            "AccountRepository.findForDeletion",
+            "AccountRepository.deleteWithZeroBalance",
+            "AccountRepository.findDormant",
+            "AccountRepository.findAllWithUsers",
+            "AccountUserRepository.findByAccountIdAndRole",
+            "AccountUserRepository.findByAccountIdAndUserId",
+            "AccountUserRepository.countPrimaryUsersByAccountId",
+            "AccountUserRepository.getTotalBalanceByUserId",
+            "AccountUserRepository.countAccountsByUserId",
+            "AccountUserRepository.deleteByAccountIds",
+            "UserRepository.findByEmail",
+            "UserRepository.findExistingEmails",
+            "UserRepository.streamAllEmails",
+            "UserRepository.findIdsByEmails",
+            "UserRepository.findExistingIds",
+            "UserRepository.deleteWithoutAccounts",
+            "UserRepository.findAllWithAccounts",
+            "UserRepository.findWithAccountsById",
+            "ArchivedAccountRepository.findWithUsersById",
+            "ArchivedAccountRepository.existsByAccountNumber",
+            "ArchivedAccountRepository.findExistingAccountNumbers",
+            "ArchivedAccountRepository.streamAllAccountNumbers");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountUserRepository accountUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArchivedAccountRepository archivedAccountRepository;
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(dataSource);
+        seed();
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    void everyRepositoryQuery_HasPlanCheck() {
+        Set<String> declared = new TreeSet<>();
+        for (Class<?> repository : List.of(AccountRepository.class, AccountUserRepository.class,
+                UserRepository.class, ArchivedAccountRepository.class)) {
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!method.isDefault() && !method.isSynthetic()) {
+                    declared.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+
+        assertThat(declared).containsExactlyInAnyOrderElementsOf(CHECKED_QUERIES);
+    }
+
+    @Test
+    void accountNumberLookups_UseUniqueIndex() {
+        assertIndexLookup(explain(() -> accountRepository.findByAccountNumber("ACC-42"), "ACC-42"));
+        assertIndexLookup(explain(() -> accountRepository.findExistingAccountNumbers(List.of("ACC-1", "ACC-2")),
+                "ACC-1", "ACC-2"));
+    }
+
+    @Test
+    void userAccountLookups_UseUserIdIndex() {
+        assertUsesIndex(explain(() -> accountRepository.findAccountsByUserId(7L), 7L), USER_ID_INDEX);
+        assertUsesIndex(explain(() -> accountRepository.findAccountsByUserIdAndRole(7L, AccountUserRole.PRIMARY),
+                7L, AccountUserRole.PRIMARY.name()), USER_ID_INDEX);
+    }
+
+    @Test
+    void balanceCounts_UseBalanceIndex() {
+        BigDecimal low = new BigDecimal("500.00");
+        BigDecimal high = new BigDecimal("2000.00");
+
+        assertUsesIndex(explain(() -> accountRepository.countByBalanceGreaterThan(high), high), BALANCE_INDEX);
+        assertUsesIndex(explain(() -> accountRepository.countByBalanceLessThan(low), low), BALANCE_INDEX);
+        assertUsesIndex(explain(() -> accountRepository.countByBalanceBetween(low, high), low, high),
+                BALANCE_INDEX);
+    }
+
+    @Test
+    void accountUserLookupsByAccount_UseIndex() {
+        // Served by the (account_id, user_id) unique constraint's index, or the foreign key's
+        assertIndexLookup(explain(() -> accountUserRepository.findByAccountIdAndRole(3L, AccountUserRole.PRIMARY),
+                3L, AccountUserRole.PRIMARY.name()));
+        assertIndexLookup(explain(() -> accountUserRepository.findByAccountIdAndUserId(3L, 3L), 3L, 3L));
+        assertIndexLookup(explain(() -> accountUserRepository.countPrimaryUsersByAccountId(3L), 3L));
+    }
+
+    @Test
+    void userBalanceAggregates_UseUserIdIndex() {
+        assertUsesIndex(explain(() -> accountUserRepository.getTotalBalanceByUserId(7L), 7L), USER_ID_INDEX);
+        assertUsesIndex(explain(() -> accountUserRepository.countAccountsByUserId(7L), 7L), USER_ID_INDEX);
+    }
+
+    @Test
+    void emailLookups_UseUniqueIndex() {
+        assertIndexLookup(explain(() -> userRepository.findByEmail("user7@example.com"), "user7@example.com"));
+        assertIndexLookup(explain(() -> userRepository.findExistingEmails(List.of("user1@example.com",
+                "user2@example.com")), "user1@example.com", "user2@example.com"));
+        assertIndexLookup(explain(() -> userRepository.findIdsByEmails(List.of("user1@example.com",
+                "user2@example.com")), "user1@example.com", "user2@example.com"));
+    }
+
+    @Test
+    void bulkDeletes_UsePrimaryKeyAndForeignKeyIndexes() {
+        // Every seeded user has accounts and no account has a zero balance, so nothing is deleted
+        List<Long> ids = List.of(3L, 4L);
+
+        assertIndexLookup(explain(() -> userRepository.findExistingIds(ids), 3L, 4L));
+        assertIndexLookup(explain(() -> userRepository.deleteWithoutAccounts(ids), 3L, 4L));
+        assertIndexLookup(explain(() -> accountRepository.findForDeletion(ids), 3L, 4L));
+        assertIndexLookup(explain(() -> accountRepository.deleteWithZeroBalance(ids), 3L, 4L));
+        assertIndexLookup(explain(() -> accountUserRepository.deleteByAccountIds(ids), 3L, 4L));
+    }
+
+    @Test
+    void archival_UsesBalanceActivityIndex() {
+        Timestamp inactiveSince = Timestamp.from(Instant.now().plusSeconds(60));
+
+        assertUsesIndex(explain(() -> accountRepository.findDormant(inactiveSince.toInstant(), Limit.of(10)),
+                inactiveSince, 10), BALANCE_INDEX);
+    }
+
+    @Test
+    void archivedAccountLookups_UseIndexes() {
+        long id = ACCOUNTS + 7;
+
+        assertIndexLookup(explain(() -> archivedAccountRepository.findWithUsersById(id), id));
+        assertIndexLookup(explain(() -> archivedAccountRepository.existsByAccountNumber("ARC-7"), "ARC-7", 1));
+        assertIndexLookup(explain(() -> archivedAccountRepository.findExistingAccountNumbers(List.of("ARC-1",
+                "ARC-2")), "ARC-1", "ARC-2"));
+    }
+
+    @Test
+    void fetchJoinedLists_ScanOnlyTheListedTable() {
+        // Listing reads the whole root table; the fetched associations must still join by index
+        assertSingleTableScan(explain(() -> userRepository.findAllWithAccounts()));
+        assertSingleTableScan(explain(() -> accountRepository.findAllWithUsers()));
+        assertIndexLookup(explain(() -> userRepository.findWithAccountsById(7L), 7L));
+    }
+
+    @Test
+    void streamingQueries_ReadWholeTableByDesign() {
+        // Used to warm the uniqueness filters: they read every row, so only check they still plan
+        assertThat(explain(() -> {
+            try (Stream<String> numbers = accountRepository.streamAllAccountNumbers()) {
+                numbers.findFirst();
+            }
+        })).containsIgnoringCase("ACCOUNTS");
+        assertThat(explain(() -> {
+            try (Stream<String> emails = userRepository.streamAllEmails()) {
+                emails.findFirst();
+            }
+        })).containsIgnoringCase("USERS");
+        assertThat(explain(() -> {
+            try (Stream<String> numbers = archivedAccountRepository.streamAllAccountNumbers()) {
+                numbers.findFirst();
+            }
+        })).containsIgnoringCase("ARCHIVED_ACCOUNTS");
+    }
+
+    /**
+     * Runs a repository call and returns the plan of the last statement it sent.
+     * Arguments are bound in order; when Hibernate pads an IN list, the
+     * padding repeats the last argument, as Hibernate itself does.
+     */
+    private String explain(Runnable call, Object... args) {
+        RecordingStatementInspector.clear();
+        call.run();
+        String sql = RecordingStatementInspector.lastStatement();
+        assertThat(sql).as("SQL sent by the repository call").isNotNull();
+
+        int parameters = (int) sql.chars().filter(c -> c == '?').count();
+        Object[] bound = new Object[parameters];
+        for (int i = 0; i < parameters; i++) {
+            bound[i] = args[Math.min(i, args.length - 1)];
+        }
+        List<String> plan = jdbc.queryForList("EXPLAIN " + sql, String.class, bound);
+        return String.join("\n", plan);
+    }
+
+    private static void assertIndexLookup(String plan) {
+        assertThat(plan).as("plan").doesNotContain(TABLE_SCAN);
+    }
+
+    private static void assertSingleTableScan(String plan) {
+        assertThat(plan).as("plan").contains(TABLE_SCAN);
+        assertThat(plan.indexOf(TABLE_SCAN)).as("single table scan in plan:%n%s", plan)
+                .isEqualTo(plan.lastIndexOf(TABLE_SCAN));
+    }
+
+    private static void assertUsesIndex(String plan, String index) {
+        assertThat(plan).as("plan").doesNotContain(TABLE_SCAN).containsIgnoringCase(index);
+    }
+
+    /**
+     * Every user owns four accounts and is authorized on one more, with
+     * balances spread between 0 and 4999. The first users also own one
+     * archived account each.
+     */
+    private void seed() {
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[] { id, "User " + id, "user" + id + "@example.com" });
+        }
+        jdbc.batchUpdate("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users);
+
+        List<Object[]> accounts = new ArrayList<>(ACCOUNTS);
+        List<Object[]> accountUsers = new ArrayList<>(ACCOUNTS + USERS);
+        for (long id = 1; id <= ACCOUNTS; id++) {
+            long owner = (id - 1) % USERS + 1;
+            accounts.add(new Object[] { id, "ACC-" + id, BigDecimal.valueOf(id * 37 % 5000) });
+            accountUsers.add(new Object[] { id, id, owner, AccountUserRole.PRIMARY.name() });
+        }
+        for (long user = 1; user <= USERS; user++) {
+            long account = (user + USERS / 2) % ACCOUNTS + 1;
+            accountUsers.add(new Object[] { ACCOUNTS + user, account, user, AccountUserRole.AUTHORIZED.name() });
+        }
+        jdbc.batchUpdate("INSERT INTO accounts (id, account_number, balance) VALUES (?, ?, ?)", accounts);
+        jdbc.batchUpdate("INSERT INTO account_users (id, account_id, user_id, role) VALUES (?, ?, ?, ?)",
+                accountUsers);
+
+        Timestamp archivedAt = Timestamp.from(Instant.now());
+        List<Object[]> archived = new ArrayList<>(ARCHIVED_ACCOUNTS);
+        List<Object[]> archivedUsers = new ArrayList<>(ARCHIVED_ACCOUNTS);
+        for (long i = 1; i <= ARCHIVED_ACCOUNTS; i++) {
+            archived.add(new Object[] { ACCOUNTS + i, "ARC-" + i, BigDecimal.ZERO, archivedAt, archivedAt });
+            archivedUsers.add(new Object[] { ACCOUNTS + USERS + i, ACCOUNTS + i, i, AccountUserRole.PRIMARY.name() });
+        }
+        jdbc.batchUpdate("INSERT INTO archived_accounts (id, account_number, balance, last_activity_at, archived_at) "
+                + "VALUES (?, ?, ?, ?, ?)", archived);
+        jdbc.batchUpdate("INSERT INTO archived_account_users (id, account_id, user_id, role) VALUES (?, ?, ?, ?)",
+                archivedUsers);
+    }
+
+    /**
+     * Records the SQL of every statement Hibernate prepares, unchanged.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static String lastStatement() {
+            synchronized (STATEMENTS) {
+                return STATEMENTS.isEmpty() ? null : STATEMENTS.get(STATEMENTS.size() - 1).strip();
+            }
+        }
+    }
+}
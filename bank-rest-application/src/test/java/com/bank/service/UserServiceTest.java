@@ -1,11 +1,14 @@
 package com.bank.service;
 
+import com.bank.cache.NotFoundCache;
+import com.bank.cache.UniquenessFilters;
 import com.bank.domain.User;
-import com.bank.domain.AccountUser;
 import com.bank.dto.request.CreateUserRequest;
 import com.bank.dto.request.UpdateUserRequest;
+import com.bank.dto.response.BulkOperationResponse;
 import com.bank.dto.response.UserResponse;
 import com.bank.dto.response.UserBalanceResponse;
+import com.bank.exception.ErrorMessages;
 import com.bank.exception.UserAlreadyExistsException;
 import com.bank.exception.UserHasAccountsException;
 import com.bank.exception.UserNotFoundException;
@@ -23,6 +26,7 @@ import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +42,12 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UniquenessFilters uniquenessFilters;
+
+    @Mock
+    private NotFoundCache notFoundCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -59,6 +69,9 @@ class UserServiceTest {
 
         createRequest = new CreateUserRequest("John Doe", "john@example.com");
         updateRequest = new UpdateUserRequest("Jane Doe", "jane@example.com");
+
+        // Filter reports a possible hit by default, so the repository lookup still runs
+        lenient().when(uniquenessFilters.mightContainEmail(any())).thenReturn(true);
     }
 
     @Test
@@ -67,7 +80,7 @@ class UserServiceTest {
         // Given
         List<User> users = List.of(testUser);
         List<UserResponse> userResponses = List.of(testUserResponse);
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findAllWithAccounts()).thenReturn(users);
         when(userMapper.toResponseList(users)).thenReturn(userResponses);
 
         // When
@@ -76,7 +89,7 @@ class UserServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getEmail()).isEqualTo("john@example.com");
-        verify(userRepository).findAll();
+        verify(userRepository).findAllWithAccounts();
         verify(userMapper).toResponseList(users);
     }
 
@@ -107,6 +120,20 @@ class UserServiceTest {
         assertThatThrownBy(() -> userService.findById(999L))
                 .isInstanceOf(UserNotFoundException.class)
                 .hasMessageContaining("999");
+        verify(notFoundCache).markUserMissing(999L);
+    }
+
+    @Test
+    @DisplayName("Should reject an id known to be missing without querying")
+    void shouldRejectKnownMissingIdWithoutQuery() {
+        // Given
+        when(notFoundCache.isUserMissing(999L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.findById(999L))
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessageContaining("999");
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
@@ -128,6 +155,23 @@ class UserServiceTest {
         verify(userRepository).save(testUser);
     }
 
+    @Test
+    @DisplayName("Should skip the email lookup when the filter rules the email out")
+    void shouldSkipEmailLookupWhenFilterRulesItOut() {
+        // Given
+        when(uniquenessFilters.mightContainEmail("john@example.com")).thenReturn(false);
+        when(userMapper.toEntity(createRequest)).thenReturn(testUser);
+        when(userRepository.save(testUser)).thenReturn(testUser);
+        when(userMapper.toResponse(testUser)).thenReturn(testUserResponse);
+
+        // When
+        userService.createUser(createRequest);
+
+        // Then
+        verify(userRepository, never()).findByEmail(any());
+        verify(uniquenessFilters).recordEmail("john@example.com");
+    }
+
     @Test
     @DisplayName("Should throw UserAlreadyExistsException when email exists")
     void shouldThrowUserAlreadyExistsException() {
@@ -177,28 +221,61 @@ class UserServiceTest {
     @DisplayName("Should delete user successfully when no accounts")
     void shouldDeleteUserSuccessfully() {
         // Given
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.deleteWithoutAccounts(List.of(1L))).thenReturn(1);
 
         // When
         userService.deleteUser(1L);
 
         // Then
-        verify(userRepository).deleteById(1L);
+        verify(userRepository, never()).existsById(any());
     }
 
     @Test
     @DisplayName("Should throw exception when deleting user with accounts")
     void shouldThrowExceptionWhenDeletingUserWithAccounts() {
         // Given
-        AccountUser accountUser = mock(AccountUser.class);
-        testUser.getAccountUsers().add(accountUser);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.deleteWithoutAccounts(List.of(1L))).thenReturn(0);
+        when(userRepository.existsById(1L)).thenReturn(true);
 
         // When & Then
         assertThatThrownBy(() -> userService.deleteUser(1L))
                 .isInstanceOf(UserHasAccountsException.class)
                 .hasMessageContaining("1");
-        verify(userRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when deleting non-existing user")
+    void shouldThrowExceptionWhenDeletingNonExistingUser() {
+        // Given
+        when(userRepository.deleteWithoutAccounts(List.of(1L))).thenReturn(0);
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.deleteUser(1L))
+                .isInstanceOf(UserNotFoundException.class);
+        verify(notFoundCache).markUserMissing(1L);
+    }
+
+    @Test
+    @DisplayName("Should report per-id results when deleting users in bulk")
+    void shouldReportPerIdResultsWhenDeletingUsersInBulk() {
+        // Given
+        when(userRepository.findExistingIds(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 2L));
+        when(userRepository.deleteWithoutAccounts(Set.of(1L, 2L))).thenReturn(1);
+        when(userRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(List.of(2L));
+
+        // When
+        BulkOperationResponse result = userService.deleteUsers(List.of(1L, 2L, 3L, 1L));
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getResults().get(0).isSuccess()).isTrue();
+        assertThat(result.getResults().get(1).getMessage())
+                .isEqualTo(String.format(ErrorMessages.USER_HAS_ACCOUNTS, 2L));
+        assertThat(result.getResults().get(2).getMessage())
+                .isEqualTo(String.format(ErrorMessages.USER_NOT_FOUND, 3L));
+        assertThat(result.getResults().get(3).getMessage())
+                .isEqualTo(String.format(ErrorMessages.DUPLICATE_ID_IN_REQUEST, 1L));
     }
 
     @Test
@@ -209,7 +286,7 @@ class UserServiceTest {
         balanceResponse.setUserId(1L);
         balanceResponse.setTotalBalance(BigDecimal.valueOf(1000));
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.findWithAccountsById(1L)).thenReturn(Optional.of(testUser));
         when(userMapper.toBalanceResponse(testUser)).thenReturn(balanceResponse);
 
         // When
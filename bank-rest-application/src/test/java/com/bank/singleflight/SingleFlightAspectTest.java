@@ -0,0 +1,217 @@
+package com.bank.singleflight;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.bank.dto.response.SingleFlightMetricsResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlightAspect Tests")
+class SingleFlightAspectTest {
+
+    private static final int CALLERS = 8;
+
+    private SingleFlightAspect aspect;
+    private SlowLookup target;
+    private Lookup lookup;
+
+    @BeforeEach
+    void setUp() {
+        setUp(Duration.ofSeconds(5));
+    }
+
+    private void setUp(Duration maxWait) {
+        aspect = new SingleFlightAspect(true, maxWait);
+        target = new SlowLookup();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        lookup = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should run concurrent identical calls once and share the result")
+    void shouldShareInFlightCall() throws Exception {
+        // Given
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            long requestStart = System.nanoTime();
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(inRequest(requestStart, () -> lookup.find(1L))));
+            }
+
+            // When every other caller is waiting on the first one
+            awaitDeduplicated(CALLERS - 1);
+            target.release.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(target.invocations.get()).isEqualTo(1);
+        assertThat(aspect.getMetrics().getExecuted()).isEqualTo(1);
+        assertThat(aspect.getMetrics().getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run calls with different arguments or at different times separately")
+    void shouldNotShareDistinctOrSequentialCalls() {
+        // Given
+        target.release.countDown();
+
+        // When
+        lookup.find(1L);
+        lookup.find(1L);
+        lookup.find(2L);
+
+        // Then
+        assertThat(target.invocations.get()).isEqualTo(3);
+        SingleFlightMetricsResponse metrics = aspect.getMetrics();
+        assertThat(metrics.getExecuted()).isEqualTo(3);
+        assertThat(metrics.getDeduplicated()).isZero();
+        assertThat(metrics.getMethods()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should propagate the exception of the shared call to every waiting caller")
+    void shouldShareException() throws Exception {
+        // Given
+        target.failure = new IllegalStateException("lookup failed");
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            long requestStart = System.nanoTime();
+            Future<String> first = callers.submit(inRequest(requestStart, () -> lookup.find(1L)));
+            Future<String> second = callers.submit(inRequest(requestStart, () -> lookup.find(1L)));
+
+            // When
+            awaitDeduplicated(1);
+            target.release.countDown();
+
+            // Then
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(target.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not share a call that started before the caller's request")
+    void shouldNotShareCallStartedBeforeRequest() throws Exception {
+        // Given a call in flight
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = callers.submit(inRequest(System.nanoTime(), () -> lookup.find(1L)));
+            awaitInvocations(1);
+
+            // When a request arriving later asks for the same value
+            Future<String> second = callers.submit(inRequest(System.nanoTime(), () -> lookup.find(1L)));
+            awaitInvocations(2);
+            target.release.countDown();
+
+            // Then it ran on its own
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(aspect.getMetrics().getExecuted()).isEqualTo(2);
+        assertThat(aspect.getMetrics().getDeduplicated()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run the call itself once the wait for the shared call exceeds the maximum")
+    void shouldRunAloneAfterMaxWait() throws Exception {
+        // Given
+        setUp(Duration.ofMillis(50));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            long requestStart = System.nanoTime();
+            Future<String> first = callers.submit(inRequest(requestStart, () -> lookup.find(1L)));
+            awaitInvocations(1);
+
+            // When the second caller gives up waiting
+            Future<String> second = callers.submit(inRequest(requestStart, () -> lookup.find(1L)));
+            awaitInvocations(2);
+            target.release.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(aspect.getMetrics().getExecuted()).isEqualTo(2);
+    }
+
+    private static Callable<String> inRequest(long requestStart, Callable<String> call) {
+        return () -> {
+            RequestStart.set(requestStart);
+            try {
+                return call.call();
+            } finally {
+                RequestStart.clear();
+            }
+        };
+    }
+
+    private void awaitInvocations(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (target.invocations.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(target.invocations.get()).isEqualTo(expected);
+    }
+
+    private void awaitDeduplicated(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (aspect.getMetrics().getDeduplicated() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(aspect.getMetrics().getDeduplicated()).isEqualTo(expected);
+    }
+
+    interface Lookup {
+        String find(Long id);
+    }
+
+    static class SlowLookup implements Lookup {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger invocations = new AtomicInteger();
+        private volatile RuntimeException failure;
+
+        @Override
+        @SingleFlight
+        public String find(Long id) {
+            invocations.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return "value-" + id;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.bank.slowquery;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlowQueryLog Tests")
+class SlowQueryLogTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("bank.slow-query");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        appender.start();
+        logger.addAppender(appender);
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:slow-query-log;DB_CLOSE_DELAY=-1");
+        dataSource = h2;
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS users (id BIGINT PRIMARY KEY, email VARCHAR(255))");
+            statement.execute("DELETE FROM users");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Should log slow statements with redacted binds, rows, caller and plan")
+    void shouldLogSlowStatements() throws Exception {
+        // Given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ZERO, true, 100);
+        DataSource wrapped = slowQueryLog.wrap(dataSource, dataSource);
+
+        // When
+        try (Connection connection = wrapped.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO users (id, email) VALUES (?, ?)")) {
+                for (long id = 1; id <= 3; id++) {
+                    insert.setLong(1, id);
+                    insert.setString(2, "user" + id + "@example.com");
+                    insert.executeUpdate();
+                }
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT * FROM users WHERE id <= ?")) {
+                select.setLong(1, 2);
+                try (ResultSet result = select.executeQuery()) {
+                    while (result.next()) {
+                        result.getString("email");
+                    }
+                }
+            }
+        }
+        slowQueryLog.destroy();
+
+        // Then
+        List<String> lines = appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertThat(lines).hasSize(4);
+        assertThat(lines).noneMatch(line -> line.contains("@example.com"));
+        assertThat(lines.get(0)).contains("1 rows", "binds [1, <redacted>]", "INSERT INTO users");
+        assertThat(lines.get(3))
+                .contains("2 rows", "caller SlowQueryLogTest.shouldLogSlowStatements", "binds [2]")
+                .contains("plan ", "\"PUBLIC\".\"USERS\"", "PRIMARY_KEY");
+        assertThat(slowQueryLog.getLogged()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should not log statements under the threshold")
+    void shouldIgnoreFastStatements() throws Exception {
+        // Given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ofMinutes(1), true, 100);
+        DataSource wrapped = slowQueryLog.wrap(dataSource, dataSource);
+
+        // When
+        try (Connection connection = wrapped.getConnection();
+                PreparedStatement select = connection.prepareStatement("SELECT COUNT(*) FROM users");
+                ResultSet result = select.executeQuery()) {
+            result.next();
+        }
+        slowQueryLog.destroy();
+
+        // Then
+        assertThat(appender.list).isEmpty();
+        assertThat(slowQueryLog.getLogged()).isZero();
+    }
+}
@@ -1,20 +0,0 @@
-package com.bank.repository;
-
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-import com.bank.domain.User;
-
-import java.util.Optional;
-
-@Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    /**
-     * Find a user by their email address
-     * 
-     * @param email the email address to search for
-     * @return an Optional containing the user if found, or empty if not found
-     */
-    Optional<User> findByEmail(String email);
-}
\ No newline at end of file